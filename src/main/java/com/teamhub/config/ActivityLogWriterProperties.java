@@ -0,0 +1,24 @@
+package com.teamhub.config;
+
+import com.teamhub.enums.activity.ActivityLogOverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "activity-log.writer")
+@Getter
+@Setter
+public class ActivityLogWriterProperties {
+
+    private int queueCapacity = 10000;
+    private int batchSize = 200;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private ActivityLogOverflowPolicy overflowPolicy = ActivityLogOverflowPolicy.CALLER_RUNS;
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+    private int maxRetries = 3;
+    private Duration retryBackoff = Duration.ofMillis(200);
+}
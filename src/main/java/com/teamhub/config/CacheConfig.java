@@ -0,0 +1,92 @@
+package com.teamhub.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.teamhub.dto.response.WorkspaceDashboardResponse;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.security.JwtPrincipal;
+import com.teamhub.service.WorkspaceAccessService;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Configuration
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    // 워크스페이스 대시보드 (workspaceId -> 응답)
+    @Bean
+    public Cache<Long, WorkspaceDashboardResponse> workspaceDashboardCache(DashboardCacheProperties properties) {
+        Cache<Long, WorkspaceDashboardResponse> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        // cache.gets / cache.puts / cache.evictions 메트릭 (cache=workspaceDashboard)
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "workspaceDashboard");
+    }
+
+    // 워크스페이스 멤버 역할 ((workspaceId, userId) -> 역할, 멤버인 경우만 저장)
+    @Bean
+    public Cache<WorkspaceAccessService.MembershipKey, WorkspaceRole> workspaceMembershipCache(MembershipCacheProperties properties) {
+        Cache<WorkspaceAccessService.MembershipKey, WorkspaceRole> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "workspaceMembership");
+    }
+
+    // 검증된 액세스 토큰 (토큰 SHA-256 -> 사용자 정보), 각 항목은 토큰의 exp 에 만료
+    @Bean
+    public Cache<String, JwtPrincipal> verifiedTokenCache(TokenCacheProperties properties) {
+        Cache<String, JwtPrincipal> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0L, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 로 적중률, cache.evictions 로 제거 수 확인
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+    }
+
+    // 요청 제한 버킷 (클라이언트 키 -> 버킷), 한동안 요청이 없으면 제거
+    // 제거된 클라이언트는 다음 요청에서 가득 찬 버킷으로 다시 시작하므로 유휴 시간이 리필 주기보다 길면 동작이 같다
+    @Bean
+    public Cache<String, Bucket> rateLimitBucketCache(RateLimitProperties properties) {
+        Cache<String, Bucket> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .recordStats()
+                .build();
+
+        // cache.size 로 버킷 수, cache.evictions 로 제거 수 확인 (힙 사용량은 jvm.memory.used)
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "rateLimitBuckets");
+    }
+}
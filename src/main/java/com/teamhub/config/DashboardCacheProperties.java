@@ -0,0 +1,18 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "cache.dashboard")
+@Getter
+@Setter
+public class DashboardCacheProperties {
+
+    private long maxSize = 10000;
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,110 @@
+package com.teamhub.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.mysql.MySQLSelectForUpdateBasedProxyManager;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 에 버킷 상태를 두고 모든 노드가 공유 (bucket4j SELECT ... FOR UPDATE 기반 ProxyManager)
+ * 노드는 sync-tokens 개 / sync-interval 까지 로컬에서 먼저 소비하고 한 번에 DB 에 반영하므로
+ * 요청마다 DB 를 왕복하지 않는다 (대신 노드 수 x sync-tokens 만큼 한도를 잠시 넘을 수 있음).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "backend", havingValue = "jdbc")
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore {
+
+    private static final String TABLE_NAME = "rate_limit_buckets";
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final MySQLSelectForUpdateBasedProxyManager<Long> proxyManager;
+    private final Optimization optimization;
+    private final Cache<String, Bucket> rateLimitBucketCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final RateLimitProperties rateLimitProperties;
+
+    public JdbcRateLimitBucketStore(DataSource dataSource,
+                                    JdbcTemplate jdbcTemplate,
+                                    Cache<String, Bucket> rateLimitBucketCache,
+                                    RateLimitProperties rateLimitProperties) {
+        SQLProxyConfiguration<Long> configuration = SQLProxyConfiguration.builder()
+                .withClientSideConfig(ClientSideConfig.getDefault())
+                .withTableSettings(BucketTableSettings.customSettings(TABLE_NAME, "id", "state"))
+                .build(dataSource);
+
+        this.proxyManager = new MySQLSelectForUpdateBasedProxyManager<>(configuration);
+        this.optimization = Optimizations.delaying(new DelayParameters(
+                rateLimitProperties.getJdbc().getSyncTokens(),
+                rateLimitProperties.getJdbc().getSyncInterval()));
+        this.jdbcTemplate = jdbcTemplate;
+        this.rateLimitBucketCache = rateLimitBucketCache;
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    // jdbc 백엔드를 쓸 때만 테이블 생성 (첫 요청 전에), updated_at 은 유휴 버킷 정리용
+    @PostConstruct
+    void createTableIfMissing() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                "id BIGINT NOT NULL PRIMARY KEY, " +
+                "state BLOB, " +
+                "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+                "INDEX idx_rate_limit_buckets_updated_at (updated_at))");
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        // 로컬에 소비분을 모아 두는 최적화 상태가 유지되도록 프록시도 캐시에 보관
+        return rateLimitBucketCache.get(key, k -> proxyManager.builder()
+                .withOptimization(optimization)
+                .build(toBucketId(k), configuration));
+    }
+
+    // 테이블 기본키가 BIGINT 이므로 문자열 키를 SHA-256 앞 8바이트로 변환
+    private long toBucketId(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 오래 요청이 없던 버킷 행 정리 (다시 오면 가득 찬 버킷으로 시작)
+    @Scheduled(fixedDelay = 600_000)
+    public void removeIdleBuckets() {
+        long idleSeconds = rateLimitProperties.getIdleExpiry().toSeconds();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM " + TABLE_NAME + " WHERE updated_at < NOW() - INTERVAL ? SECOND LIMIT " + CLEANUP_BATCH_SIZE,
+                    idleSeconds);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Removed {} idle rate-limit buckets", total);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.teamhub.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 노드 메모리에 버킷 보관 (단일 인스턴스 / 기본값)
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "backend", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalRateLimitBucketStore implements RateLimitBucketStore {
+
+    // 최대 개수 + 유휴 만료가 있는 버킷 저장소 (CacheConfig)
+    private final Cache<String, Bucket> rateLimitBucketCache;
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return rateLimitBucketCache.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.get().getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "cache.membership")
+@Getter
+@Setter
+public class MembershipCacheProperties {
+
+    private long maxSize = 100000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
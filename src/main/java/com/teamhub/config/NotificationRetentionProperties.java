@@ -0,0 +1,18 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "notification.retention")
+@Getter
+@Setter
+public class NotificationRetentionProperties {
+
+    private Duration readMaxAge = Duration.ofDays(90);
+    private int batchSize = 1000;
+}
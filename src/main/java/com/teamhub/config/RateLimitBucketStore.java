@@ -0,0 +1,18 @@
+package com.teamhub.config;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 제한 버킷 저장소
+ * rate-limit.backend 로 선택 - local (노드별 메모리), jdbc (MySQL 공유, 여러 노드가 한도를 나눠 씀)
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * 키에 해당하는 버킷을 반환하고, 없으면 configuration 으로 만든다.
+     */
+    Bucket resolve(String key, Supplier<BucketConfiguration> configuration);
+}
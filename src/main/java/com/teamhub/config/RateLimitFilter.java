@@ -2,28 +2,40 @@ package com.teamhub.config;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.Refill;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
+// 시큐리티 필터 체인 다음에 실행되어야 인증된 userId 로 제한할 수 있음
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@RequiredArgsConstructor
 public class RateLimitFilter implements Filter {
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
 
-    // 분당 100개 요청 허용
-    private Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
+    private final RateLimitBucketStore rateLimitBucketStore;
+    private final RateLimitProperties rateLimitProperties;
+
+    // 티어별 period 동안 capacity 개 요청 허용
+    private BucketConfiguration createConfiguration(RateLimitProperties.Tier tier) {
+        Bandwidth limit = Bandwidth.classic(tier.getCapacity(), Refill.greedy(tier.getCapacity(), tier.getPeriod()));
+        return BucketConfiguration.builder().addLimit(limit).build();
     }
 
     @Override
@@ -33,19 +45,54 @@ public class RateLimitFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String clientIp = getClientIp(httpRequest);
-        Bucket bucket = buckets.computeIfAbsent(clientIp, k -> createNewBucket());
+        RateLimitProperties.Tier tier = resolveTier(httpRequest.getRequestURI());
+        String clientKey = getClientKey(httpRequest);
 
-        if (bucket.tryConsume(1)) {
+        ConsumptionProbe probe;
+        try {
+            Bucket bucket = rateLimitBucketStore.resolve(tier.getName() + ":" + clientKey, () -> createConfiguration(tier));
+            probe = bucket.tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            // 저장소 (DB) 장애로 전체 API 가 막히지 않도록 제한 없이 통과
+            log.error("Rate limit backend failure - tier: {}, client: {}", tier.getName(), clientKey, e);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (probe.isConsumed()) {
+            httpResponse.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
             chain.doFilter(request, response);
         } else {
-            log.warn("Rate limit exceeded for IP: {}", clientIp);
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+            log.warn("Rate limit exceeded - tier: {}, client: {}", tier.getName(), clientKey);
             httpResponse.setStatus(429);
+            httpResponse.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            httpResponse.setHeader("X-RateLimit-Remaining", "0");
             httpResponse.setContentType("application/json");
             httpResponse.getWriter().write("{\"error\": \"Too many requests. Please try again later.\"}");
         }
     }
 
+    private RateLimitProperties.Tier resolveTier(String uri) {
+        for (RateLimitProperties.Tier tier : rateLimitProperties.getTiers()) {
+            for (String pattern : tier.getPatterns()) {
+                if (PATH_MATCHER.match(pattern, uri)) {
+                    return tier;
+                }
+            }
+        }
+        return rateLimitProperties.getDefaultTier();
+    }
+
+    // 로그인 사용자는 userId 기준 (NAT 뒤의 여러 사용자가 버킷을 공유하지 않도록), 아니면 IP 기준
+    private String getClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + getClientIp(request);
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -53,4 +100,4 @@ public class RateLimitFilter implements Filter {
         }
         return request.getRemoteAddr();
     }
-}
\ No newline at end of file
+}
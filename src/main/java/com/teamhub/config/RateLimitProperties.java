@@ -0,0 +1,56 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private String backend = "local";  // local | jdbc
+    private long maxBuckets = 100000;
+    private Duration idleExpiry = Duration.ofMinutes(5);
+
+    // 어떤 티어에도 맞지 않는 요청에 적용
+    private Tier defaultTier = new Tier("default", List.of(), 100, Duration.ofMinutes(1));
+
+    // 위에서부터 처음 일치하는 티어 적용
+    private List<Tier> tiers = new ArrayList<>();
+
+    private Jdbc jdbc = new Jdbc();
+
+    @Getter
+    @Setter
+    public static class Jdbc {
+        // 노드가 DB 반영 없이 먼저 소비할 수 있는 토큰 수 / 최대 시간
+        private long syncTokens = 5;
+        private Duration syncInterval = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class Tier {
+        private String name;
+        private List<String> patterns = new ArrayList<>();  // Ant 패턴 (예: /api/search/**)
+        private long capacity;
+        private Duration period = Duration.ofMinutes(1);
+
+        public Tier() {
+        }
+
+        public Tier(String name, List<String> patterns, long capacity, Duration period) {
+            this.name = name;
+            this.patterns = patterns;
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
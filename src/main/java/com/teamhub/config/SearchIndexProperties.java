@@ -0,0 +1,19 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "search.index")
+@Getter
+@Setter
+public class SearchIndexProperties {
+
+    private String dir = "search-index";
+    private Duration refreshInterval = Duration.ofSeconds(1);
+    private boolean reindexOnEmpty = true;
+}
@@ -0,0 +1,15 @@
+package com.teamhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cache.token")
+@Getter
+@Setter
+public class TokenCacheProperties {
+
+    private long maxSize = 50000;
+}
@@ -38,13 +38,12 @@ public class WebSocketAuthConfig implements WebSocketMessageBrokerConfigurer {
                     String token = accessor.getFirstNativeHeader("Authorization");
                     if (token != null && token.startsWith("Bearer ")) {
                         token = token.substring(7);
-                        if (jwtTokenProvider.validateToken(token)) {
-                            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+                        jwtTokenProvider.authenticate(token).ifPresent(principal -> {
                             UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                                    userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                                    principal.userId(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))
                             );
                             accessor.setUser(auth);
-                        }
+                        });
                     }
                 }
                 return message;
@@ -1,6 +1,7 @@
 package com.teamhub.controller;
 
 import com.teamhub.dto.response.ApiResponse;
+import com.teamhub.dto.response.CursorPageResponse;
 import com.teamhub.dto.response.NotificationResponse;
 import com.teamhub.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final NotificationService notificationService;
 
     @GetMapping("/list")
@@ -30,6 +33,19 @@ public class NotificationController {
         return ApiResponse.success(res);
     }
 
+    @GetMapping("/inbox")
+    public ApiResponse<CursorPageResponse<NotificationResponse>> getInbox(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        return ApiResponse.success(notificationService.getInbox(userId, unreadOnly, cursor, pageSize));
+    }
+
     @GetMapping("/unread-count")
     public ApiResponse<Long> getUnreadCount(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
@@ -2,13 +2,18 @@ package com.teamhub.controller;
 
 import com.teamhub.dto.request.ProjectSearchRequest;
 import com.teamhub.dto.request.TaskSearchRequest;
+import com.teamhub.dto.request.WorkspaceSearchRequest;
 import com.teamhub.dto.response.ApiResponse;
 import com.teamhub.dto.response.ProjectResponse;
+import com.teamhub.dto.response.SearchPageResponse;
+import com.teamhub.dto.response.SearchResultResponse;
 import com.teamhub.dto.response.TaskResponse;
 import com.teamhub.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +27,26 @@ public class SearchController {
 
     private final SearchService searchService;
 
+    @GetMapping
+    public ApiResponse<List<SearchResultResponse>> searchWorkspace(Authentication authentication,
+                                                                   @RequestParam Long workspaceId,
+                                                                   @ModelAttribute WorkspaceSearchRequest req) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        List<SearchResultResponse> res = searchService.searchWorkspace(userId, workspaceId, req);
+
+        return ApiResponse.success(res);
+    }
+
+    // 전체 재색인 (관리자 전용, 백그라운드 실행)
+    @PostMapping("/reindex")
+    public ApiResponse<Boolean> reindex(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        boolean started = searchService.reindex(userId);
+
+        return ApiResponse.success(started ? "재색인을 시작했습니다" : "이미 재색인이 진행 중입니다", started);
+    }
+
     @RequestMapping("/tasks")
     public ApiResponse<List<TaskResponse>> searchTasks(Authentication authentication,
                                                        @RequestParam Long workspaceId,
@@ -33,6 +58,17 @@ public class SearchController {
         return ApiResponse.success(res);
     }
 
+    @GetMapping("/tasks/page")
+    public ApiResponse<SearchPageResponse<TaskResponse>> searchTasksPaged(Authentication authentication,
+                                                                          @RequestParam Long workspaceId,
+                                                                          @ModelAttribute TaskSearchRequest req) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        SearchPageResponse<TaskResponse> res = searchService.searchTasksPaged(userId, workspaceId, req);
+
+        return ApiResponse.success(res);
+    }
+
     @RequestMapping("/projects")
     public ApiResponse<List<ProjectResponse>> searchProjects(Authentication authentication,
                                                              @RequestParam Long workspaceId,
@@ -1,9 +1,13 @@
 package com.teamhub.controller;
 
+import com.teamhub.dto.request.TaskBulkUpdateRequest;
+import com.teamhub.dto.request.TaskMoveRequest;
 import com.teamhub.dto.request.TaskRequest;
 import com.teamhub.dto.response.ApiResponse;
+import com.teamhub.dto.response.CursorPageResponse;
 import com.teamhub.dto.response.TaskResponse;
 import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.service.TaskBulkService;
 import com.teamhub.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +26,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
 
     @PostMapping("/create")
     public ApiResponse<TaskResponse> createTask(Authentication authentication,
@@ -82,6 +89,23 @@ public class TaskController {
         return ApiResponse.success("테스크 상태 변경 성공", res);
     }
 
+    @PostMapping("/move")
+    public ApiResponse<TaskResponse> moveTask(Authentication authentication,
+                                              @RequestParam Long taskId,
+                                              @RequestBody TaskMoveRequest req) {
+        Long userId = (Long) authentication.getPrincipal();
+        TaskResponse res = taskService.moveTask(userId, taskId, req);
+        return ApiResponse.success("테스크 이동 성공", res);
+    }
+
+    @PostMapping("/bulk-update")
+    public ApiResponse<List<TaskResponse>> bulkUpdateTasks(Authentication authentication,
+                                                           @Valid @RequestBody TaskBulkUpdateRequest req) {
+        Long userId = (Long) authentication.getPrincipal();
+        List<TaskResponse> res = taskBulkService.bulkUpdate(userId, req);
+        return ApiResponse.success("테스크 일괄 수정 성공", res);
+    }
+
     @PostMapping("/delete")
     public ApiResponse<Void> deleteTask(Authentication authentication,
                                         @RequestParam Long taskId) {
@@ -106,4 +130,17 @@ public class TaskController {
         return ApiResponse.success(taskService.getTasksPaged(userId, projectId, pageable));
     }
 
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPageResponse<TaskResponse>> getTasksByCursor(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        return ApiResponse.success(taskService.getTasksByCursor(userId, projectId, cursor, pageSize));
+    }
+
 }
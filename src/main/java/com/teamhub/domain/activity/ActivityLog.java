@@ -9,7 +9,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "activity_logs")
+@Table(name = "activity_logs",
+        // 워크스페이스별 기간 / 유형 집계 (주간 요약)
+        indexes = @Index(name = "idx_activity_logs_workspace_type_created", columnList = "workspace_id, activity_type, created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
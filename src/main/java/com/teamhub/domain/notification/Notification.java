@@ -7,7 +7,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // 안 읽은 알림함 커서 페이징
+        @Index(name = "idx_notifications_recipient_read_created", columnList = "recipient_id, is_read, created_at"),
+        // 전체 알림함 커서 페이징 (is_read 조건 없이 created_at 순)
+        @Index(name = "idx_notifications_recipient_created", columnList = "recipient_id, created_at"),
+        // 보관 기간이 지난 읽은 알림 삭제 (is_read = true AND created_at < cutoff 범위 탐색)
+        @Index(name = "idx_notifications_read_created", columnList = "is_read, created_at")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_notifications_dedupe_key", columnNames = "dedupe_key"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -40,6 +47,10 @@ public class Notification extends BaseEntity {
     private String targetType;
     private Long targetId;
 
+    // 같은 알림 중복 생성 방지용 (예: 마감 알림은 태스크 + 날짜), 없으면 null
+    @Column(name = "dedupe_key", length = 100)
+    private String dedupeKey;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isRead = false;
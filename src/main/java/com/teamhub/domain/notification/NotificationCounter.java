@@ -0,0 +1,23 @@
+package com.teamhub.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 안 읽은 알림 수 (알림 생성 / 읽음 처리 시 증분 갱신)
+ */
+@Entity
+@Table(name = "notification_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long unreadCount;
+}
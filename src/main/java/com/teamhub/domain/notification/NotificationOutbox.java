@@ -0,0 +1,31 @@
+package com.teamhub.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 전송 대기 알림 (알림과 같은 트랜잭션에서 기록, 커밋 후 릴레이가 전송하고 삭제)
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,92 @@
+package com.teamhub.domain.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보드 순서용 분수 인덱스 키 (base62 문자열, 사전순 = 순서)
+ * 두 키 사이에는 항상 새 키를 만들 수 있으므로 이동 시 다른 태스크의 키를 바꿀 필요가 없다.
+ * 키는 '0' 으로 끝나지 않게 만들어 어떤 키 앞에도 항상 더 작은 키가 존재하도록 한다.
+ * DB 컬럼은 대소문자를 구분하는 바이너리 정렬 (ascii_bin) 이어야 Java 문자열 비교와 순서가 같다.
+ */
+public final class RankKey {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private RankKey() {
+    }
+
+    /**
+     * lower 와 upper 사이의 키 (lower == null 이면 맨 앞, upper == null 이면 맨 뒤)
+     */
+    public static String between(String lower, String upper) {
+        String a = lower != null ? lower : "";
+        if (upper != null && a.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("lower must be less than upper: " + lower + ", " + upper);
+        }
+
+        StringBuilder key = new StringBuilder();
+        String b = upper;
+        for (int i = 0; ; i++) {
+            int lo = i < a.length() ? digit(a.charAt(i)) : 0;
+            int hi = b != null && i < b.length() ? digit(b.charAt(i)) : BASE;
+
+            if (lo == hi) {
+                key.append(DIGITS.charAt(lo));
+                continue;
+            }
+
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                key.append(DIGITS.charAt(mid));
+                return key.toString();
+            }
+
+            // 바로 옆 자리 (hi == lo + 1) - lo 를 취하면 이후 자리는 upper 와 상관없이 lower 보다만 크면 됨
+            key.append(DIGITS.charAt(lo));
+            b = null;
+        }
+    }
+
+    /**
+     * count 개의 같은 길이 키를 고르게 분포시켜 반환 (재배치용)
+     */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space < 2L * (count + 1)) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1);
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            // 0 으로 끝나지 않게 (step >= 2 이므로 다음 키보다 여전히 작음)
+            if (value % BASE == 0) {
+                value++;
+            }
+            keys.add(format(value, width));
+        }
+        return keys;
+    }
+
+    private static String format(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static int digit(char c) {
+        int index = DIGITS.indexOf(c);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid rank key character: " + c);
+        }
+        return index;
+    }
+}
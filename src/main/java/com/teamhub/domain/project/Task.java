@@ -9,11 +9,21 @@ import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_project_rank", columnList = "project_id, rank_key, id"),
+                // 키가 없는 태스크 백필 대상 조회
+                @Index(name = "idx_tasks_rank_key", columnList = "rank_key"),
+                // 마감 알림 배치 (dueDate, id) keyset 조회
+                @Index(name = "idx_tasks_due_date", columnList = "due_date, id"),
+                // 주간 요약 완료 수 집계
+                @Index(name = "idx_tasks_completed_at", columnList = "completed_at")
+        })
 @SQLRestriction("is_deleted = false")
 @Getter
 @AllArgsConstructor
@@ -55,10 +65,17 @@ public class Task extends BaseEntity {
 
     private LocalDate dueDate;
 
+    // DONE 으로 바뀐 시각 (DONE 이 아니면 null)
+    private LocalDateTime completedAt;
+
     @Column(nullable = false)
     @Builder.Default
     private Integer displayOrder = 0;
 
+    // 보드 순서 (RankKey) - 이동 시 이 행만 갱신, 바이너리 정렬이어야 대소문자 순서가 Java 와 같음
+    @Column(name = "rank_key", columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String rankKey;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<TaskLabel> taskLabels = new ArrayList<>();
@@ -92,9 +109,21 @@ public class Task extends BaseEntity {
     }
 
     public void changeStatus(TaskStatus status) {
+        if (status == TaskStatus.DONE && this.status != TaskStatus.DONE) {
+            this.completedAt = LocalDateTime.now();
+        } else if (status != TaskStatus.DONE) {
+            this.completedAt = null;
+        }
         this.status = status;
     }
 
+    @PrePersist
+    void initCompletedAt() {
+        if (status == TaskStatus.DONE && completedAt == null) {
+            completedAt = LocalDateTime.now();
+        }
+    }
+
     public void assignTo(User assignee) {
         this.assignee = assignee;
     }
@@ -102,4 +131,8 @@ public class Task extends BaseEntity {
     public void changeOrder(Integer displayOrder) {
         this.displayOrder = displayOrder;
     }
+
+    public void changeRank(String rankKey) {
+        this.rankKey = rankKey;
+    }
 }
@@ -0,0 +1,36 @@
+package com.teamhub.domain.stats;
+
+import com.teamhub.enums.project.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 프로젝트 상태별 태스크 수 (태스크 변경 시 증분 갱신)
+ */
+@Entity
+@Table(name = "project_task_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "status"}),
+        indexes = @Index(name = "idx_project_task_stats_workspace", columnList = "workspace_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProjectTaskStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private Long taskCount;
+}
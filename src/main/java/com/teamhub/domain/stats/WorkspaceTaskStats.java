@@ -0,0 +1,32 @@
+package com.teamhub.domain.stats;
+
+import com.teamhub.enums.project.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 워크스페이스 상태별 태스크 수 (태스크 변경 시 증분 갱신)
+ */
+@Entity
+@Table(name = "workspace_task_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"workspace_id", "status"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WorkspaceTaskStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private Long taskCount;
+}
@@ -36,18 +36,18 @@ public class WorkspaceMember  extends BaseEntity {
     }
 
     public boolean canManageMembers() {
-        return role == WorkspaceRole.OWNER || role == WorkspaceRole.ADMIN;
+        return role.canManageMembers();
     }
 
     public boolean canManageProjects() {
-        return role == WorkspaceRole.OWNER || role == WorkspaceRole.ADMIN;
+        return role.canManageProjects();
     }
 
     public boolean canEditTasks() {
-        return role != WorkspaceRole.VIEWER;
+        return role.canEditTasks();
     }
 
     public boolean isOwner() {
-        return role == WorkspaceRole.OWNER;
+        return role.isOwner();
     }
 }
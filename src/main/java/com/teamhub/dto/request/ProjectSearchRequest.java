@@ -9,6 +9,6 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ProjectSearchRequest {
 
-    private String keyword;  // 프로젝트명, 설명 검색
+    private String keyword;  // 프로젝트명 접두어 검색
 
 }
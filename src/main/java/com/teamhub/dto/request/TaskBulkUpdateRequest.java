@@ -0,0 +1,46 @@
+package com.teamhub.dto.request;
+
+import com.teamhub.enums.project.TaskPriority;
+import com.teamhub.enums.project.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 태스크 일괄 변경 - 값이 있는 항목만 모든 태스크에 같은 값으로 적용
+ */
+@Getter
+@NoArgsConstructor
+public class TaskBulkUpdateRequest {
+
+    @NotEmpty(message = "변경할 태스크를 선택해주세요")
+    private List<Long> taskIds;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    private Long assigneeId;
+
+    // true 면 담당자 해제 (assigneeId 보다 우선)
+    private boolean unassign;
+
+    private LocalDate dueDate;
+
+    // true 면 마감일 해제 (dueDate 보다 우선)
+    private boolean clearDueDate;
+
+    private List<Long> addLabelIds;
+
+    private List<Long> removeLabelIds;
+
+    public boolean hasChanges() {
+        return status != null || priority != null || assigneeId != null || unassign
+                || dueDate != null || clearDueDate
+                || (addLabelIds != null && !addLabelIds.isEmpty())
+                || (removeLabelIds != null && !removeLabelIds.isEmpty());
+    }
+}
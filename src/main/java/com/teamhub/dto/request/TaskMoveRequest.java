@@ -0,0 +1,17 @@
+package com.teamhub.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보드에서 태스크 이동 - 둘 중 하나 이상 필요
+ * afterTaskId: 이동 후 바로 앞에 올 태스크, beforeTaskId: 이동 후 바로 뒤에 올 태스크
+ */
+@Getter
+@NoArgsConstructor
+public class TaskMoveRequest {
+
+    private Long afterTaskId;
+
+    private Long beforeTaskId;
+}
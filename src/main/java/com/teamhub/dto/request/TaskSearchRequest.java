@@ -20,5 +20,7 @@ public class TaskSearchRequest {
     private LocalDate dueDateFrom;    // 마감일 시작
     private LocalDate dueDateTo;      // 마감일 종료
     private Long projectId;           // 프로젝트 필터
+    private Integer limit;            // 최대 결과 수 (페이지 검색에서는 페이지 크기)
+    private Integer page;             // 페이지 번호 (0부터, 페이지 검색 전용)
 
 }
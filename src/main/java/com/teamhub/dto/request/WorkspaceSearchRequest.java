@@ -0,0 +1,17 @@
+package com.teamhub.dto.request;
+
+import com.teamhub.enums.search.SearchDocumentType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class WorkspaceSearchRequest {
+
+    private String keyword;             // 태스크, 프로젝트, 댓글, 파일명 통합 검색
+    private SearchDocumentType type;    // 문서 종류 필터
+    private Integer limit;              // 최대 결과 수
+
+}
@@ -0,0 +1,67 @@
+package com.teamhub.dto.response;
+
+import com.teamhub.enums.ErrorCode;
+import com.teamhub.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (전체 개수 없이 다음 커서만 반환)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지를 만든다.
+     * 마지막 요소의 정렬 키로 다음 커서를 생성한다.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper,
+                                                  Function<E, Object[]> cursorKey) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(cursorKey.apply(page.get(page.size() - 1))) : null;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public static String encodeCursor(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append('|');
+            sb.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodeCursor(String cursor, int parts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\|", -1);
+            if (values.length != parts) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.teamhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 페이지 + 필터 칩용 필드별 개수 (status, priority, assigneeId, projectId)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SearchPageResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalHits;
+    private boolean hasNext;
+    private Map<String, List<FacetCount>> facets;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamhub.dto.response;
+
+import com.teamhub.enums.search.SearchDocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SearchResultResponse {
+
+    private SearchDocumentType type;
+    private Long id;
+    private Long projectId;
+    private Long taskId;
+    private String title;
+    private String snippet;
+    private float score;
+}
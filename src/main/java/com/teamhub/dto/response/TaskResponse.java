@@ -24,6 +24,7 @@ public class TaskResponse {
     private AssigneeInfo assignee;
     private LocalDate dueDate;
     private Integer displayOrder;
+    private String rankKey;
     private LocalDateTime createdAt;
 
     @Getter
@@ -55,6 +56,7 @@ public class TaskResponse {
                 .assignee(assigneeInfo)
                 .dueDate(task.getDueDate())
                 .displayOrder(task.getDisplayOrder())
+                .rankKey(task.getRankKey())
                 .createdAt(task.getCreatedAt())
                 .build();
     }
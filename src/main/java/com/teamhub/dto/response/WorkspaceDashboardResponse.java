@@ -1,5 +1,6 @@
 package com.teamhub.dto.response;
 
+import com.teamhub.repository.projection.ProjectProgressProjection;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -46,6 +47,20 @@ public class WorkspaceDashboardResponse {
         private Long totalTasks;
         private Long completedTasks;
         private Double progressRate;
+
+        public static ProjectProgress of(ProjectProgressProjection progress) {
+            long totalTasks = progress.getTotalTasks();
+            long completedTasks = progress.getCompletedTasks();
+            Double progressRate = totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0;
+
+            return ProjectProgress.builder()
+                    .projectId(progress.getProjectId())
+                    .projectName(progress.getProjectName())
+                    .totalTasks(totalTasks)
+                    .completedTasks(completedTasks)
+                    .progressRate(Math.round(progressRate * 10) / 10.0)
+                    .build();
+        }
     }
 
     @Getter
@@ -12,6 +12,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다"),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "잘못된 입력입니다"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다"),
 
     // Auth
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다"),
@@ -55,6 +56,7 @@ public enum ErrorCode {
     TASK_UPDATE_DENIED(HttpStatus.FORBIDDEN, "태스크 수정 권한이 없습니다"),
     TASK_DELETE_DENIED(HttpStatus.FORBIDDEN, "태스크 삭제 권한이 없습니다"),
     TASK_STATUS_CHANGE_DENIED(HttpStatus.FORBIDDEN, "태스크 상태 변경 권한이 없습니다"),
+    TASK_BULK_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 변경할 수 있는 태스크 수를 초과했습니다"),
 
     // Comment
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다"),
@@ -0,0 +1,9 @@
+package com.teamhub.enums.activity;
+
+/**
+ * 활동 로그 쓰기 큐가 가득 찼을 때의 처리
+ */
+public enum ActivityLogOverflowPolicy {
+    CALLER_RUNS,  // 호출 스레드에서 바로 INSERT (유실 없음, 요청이 느려짐)
+    DROP          // 버리고 카운터만 증가 (요청 지연 없음)
+}
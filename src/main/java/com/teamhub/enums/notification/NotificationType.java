@@ -6,5 +6,7 @@ public enum NotificationType {
     COMMENT_ADDED,
     MEMBER_INVITED,
     TASK_DUE_SOON,
-    DUE_DATE_REMINDER
+    DUE_DATE_REMINDER,
+    WEEKLY_SUMMARY,
+    TASK_BULK_UPDATED
 }
@@ -0,0 +1,8 @@
+package com.teamhub.enums.search;
+
+public enum SearchDocumentType {
+    TASK,
+    PROJECT,
+    COMMENT,
+    FILE
+}
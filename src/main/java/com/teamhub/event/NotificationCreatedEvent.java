@@ -0,0 +1,7 @@
+package com.teamhub.event;
+
+/**
+ * 알림 + 아웃박스 행이 기록됨 (커밋 후 릴레이가 실시간 전송)
+ */
+public record NotificationCreatedEvent(Long notificationId) {
+}
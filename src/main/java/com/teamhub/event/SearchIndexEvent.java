@@ -0,0 +1,30 @@
+package com.teamhub.event;
+
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.search.SearchDocument;
+
+/**
+ * 검색 인덱스 반영 이벤트 (트랜잭션 커밋 후 색인)
+ * 엔티티 대신 발행 시점의 스냅샷을 담아 커밋 이후 지연 로딩이 일어나지 않게 한다.
+ */
+public record SearchIndexEvent(Action action, SearchDocumentType type, Long id, SearchDocument document) {
+
+    public enum Action {
+        UPSERT,
+        DELETE,
+        DELETE_WORKSPACE
+    }
+
+    public static SearchIndexEvent upsert(SearchDocument document) {
+        return new SearchIndexEvent(Action.UPSERT, document.type(), document.id(), document);
+    }
+
+    // 태스크 / 프로젝트 삭제 시 하위 댓글, 파일 문서도 함께 제거된다
+    public static SearchIndexEvent delete(SearchDocumentType type, Long id) {
+        return new SearchIndexEvent(Action.DELETE, type, id, null);
+    }
+
+    public static SearchIndexEvent workspaceDeleted(Long workspaceId) {
+        return new SearchIndexEvent(Action.DELETE_WORKSPACE, null, workspaceId, null);
+    }
+}
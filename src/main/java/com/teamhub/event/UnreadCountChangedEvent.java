@@ -0,0 +1,7 @@
+package com.teamhub.event;
+
+/**
+ * 사용자의 안 읽은 알림 수가 바뀜 (커밋 후 WebSocket 으로 새 값 전송)
+ */
+public record UnreadCountChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.teamhub.event;
+
+/**
+ * 워크스페이스 대시보드에 보이는 데이터가 변경되었음을 알리는 이벤트
+ */
+public record WorkspaceChangedEvent(Long workspaceId) {
+}
@@ -0,0 +1,7 @@
+package com.teamhub.event;
+
+/**
+ * 워크스페이스 멤버 초대 / 제거 등으로 (workspaceId, userId) 의 역할이 바뀌었음을 알리는 이벤트
+ */
+public record WorkspaceMembershipChangedEvent(Long workspaceId, Long userId) {
+}
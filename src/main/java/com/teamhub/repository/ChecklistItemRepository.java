@@ -10,6 +10,10 @@ import java.util.List;
 public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, Long> {
     List<ChecklistItem> findAllByTaskIdOrderByDisplayOrderAsc(Long taskId);
 
+    // 순서 변경 검증용 - 태스크의 항목 id 를 현재 순서대로
+    @Query("SELECT c.id FROM ChecklistItem c WHERE c.task.id = :taskId ORDER BY c.displayOrder ASC, c.id ASC")
+    List<Long> findIdsByTaskIdOrderByDisplayOrder(@Param("taskId") Long taskId);
+
     @Query("SELECT COUNT(c) FROM ChecklistItem c WHERE c.task.id = :taskId")
     Long countByTaskId(@Param("taskId") Long taskId);
 
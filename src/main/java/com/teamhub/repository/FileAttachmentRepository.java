@@ -1,6 +1,7 @@
 package com.teamhub.repository;
 
 import com.teamhub.domain.file.FileAttachment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,4 +14,10 @@ public interface FileAttachmentRepository extends JpaRepository<FileAttachment,
     List<FileAttachment> findAllByTaskId(@Param("taskId") Long taskId);
 
     Long countByTaskId(Long taskId);
+
+    // 검색 재색인용 id 순 청크 조회 (삭제된 태스크 / 프로젝트 / 워크스페이스의 파일 제외)
+    @Query("SELECT f FROM FileAttachment f JOIN FETCH f.task t JOIN FETCH t.project p JOIN p.workspace w " +
+            "WHERE f.id > :lastId AND t.isDeleted = false AND p.isDeleted = false AND w.isDeleted = false " +
+            "ORDER BY f.id ASC")
+    List<FileAttachment> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,47 @@
+package com.teamhub.repository;
+
+import com.teamhub.domain.notification.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    List<NotificationCounter> findAllByUserIdIn(Collection<Long> userIds);
+
+    // 알림 생성 후 증가 - 행이 없으면 0 을 반환하고, 그때만 initialize 로 실제 안 읽은 수를 센다
+    @Modifying
+    @Query(value = "UPDATE notification_counters SET unread_count = unread_count + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE notification_counters SET unread_count = GREATEST(unread_count - 1, 0) WHERE user_id = :userId",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE notification_counters SET unread_count = 0 WHERE user_id = :userId", nativeQuery = true)
+    int reset(@Param("userId") Long userId);
+
+    // 카운터가 없는 사용자 (기존 데이터) 는 실제 값으로 생성 (같은 트랜잭션에서 방금 저장한 알림 포함)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notification_counters (user_id, unread_count) " +
+            "SELECT :userId, COUNT(*) FROM notifications WHERE recipient_id = :userId AND is_read = false",
+            nativeQuery = true)
+    int initialize(@Param("userId") Long userId);
+
+    // 재집계 (증분 갱신 오차 보정), 어긋난 행 수 반환
+    @Modifying
+    @Query(value = "UPDATE notification_counters c " +
+            "JOIN (SELECT cc.user_id, COUNT(n.id) AS actual FROM notification_counters cc " +
+            "      LEFT JOIN notifications n ON n.recipient_id = cc.user_id AND n.is_read = false " +
+            "      GROUP BY cc.user_id) x ON x.user_id = c.user_id " +
+            "SET c.unread_count = x.actual WHERE c.unread_count <> x.actual",
+            nativeQuery = true)
+    int reconcile();
+}
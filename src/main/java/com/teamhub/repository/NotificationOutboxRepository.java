@@ -0,0 +1,15 @@
+package com.teamhub.repository;
+
+import com.teamhub.domain.notification.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 여러 인스턴스가 같은 행을 중복 전송하지 않도록 잠긴 행은 건너뜀 (MySQL 8)
+    @Query(value = "SELECT * FROM notification_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> lockNextBatch(@Param("limit") int limit);
+}
@@ -1,23 +1,75 @@
 package com.teamhub.repository;
 
 import com.teamhub.domain.notification.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId ORDER BY n.createdAt DESC")
-    List<Notification> findByRecipientId(@Param("userId") Long userId);
+    Long countByRecipientIdAndIsReadFalse(Long userId);
 
-    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
-    List<Notification> findUnreadByRecipientId(@Param("userId") Long userId);
+    @Query("SELECT n.dedupeKey FROM Notification n WHERE n.dedupeKey IN :keys")
+    List<String> findExistingDedupeKeys(@Param("keys") Collection<String> keys);
 
-    Long countByRecipientIdAndIsReadFalse(Long userId);
+    // 알림함 커서 페이징 - 첫 페이지 (createdAt, id 최신순)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender " +
+            "WHERE n.recipient.id = :userId " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 알림함 커서 페이징 - (createdAt, id) 이전부터 seek
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender " +
+            "WHERE n.recipient.id = :userId " +
+            "AND n.createdAt <= :createdAt " +
+            "AND (n.createdAt < :createdAt OR n.id < :id) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPageBefore(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // 안 읽은 알림함 커서 페이징 - 첫 페이지
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender " +
+            "WHERE n.recipient.id = :userId AND n.isRead = false " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadInboxFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 안 읽은 알림함 커서 페이징 - (createdAt, id) 이전부터 seek
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender " +
+            "WHERE n.recipient.id = :userId AND n.isRead = false " +
+            "AND n.createdAt <= :createdAt " +
+            "AND (n.createdAt < :createdAt OR n.id < :id) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadInboxPageBefore(@Param("userId") Long userId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    // 보관 기간이 지난 읽은 알림 삭제 (호출마다 별도 트랜잭션, limit 개씩)
+    // idx_notifications_read_created 순서대로 지워 전체 스캔/정렬 없이 오래된 것부터 limit 개만 잠금
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE is_read = true AND created_at < :cutoff ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteReadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender WHERE n.id IN :ids")
+    List<Notification> findAllWithSenderByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 안 읽은 상태에서 바꾼 경우에만 1 (동시 요청 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id = :id AND n.recipient.id = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
 
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.id = :userId AND n.isRead = false")
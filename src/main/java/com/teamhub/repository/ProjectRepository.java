@@ -1,6 +1,8 @@
 package com.teamhub.repository;
 
 import com.teamhub.domain.project.Project;
+import com.teamhub.dto.response.ProjectResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,14 +13,24 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findAllByWorkspaceId(Long workspaceId);
 
-    @Query("SELECT p FROM Project p " +
+    // 프로젝트명 접두어 검색 + 태스크 수 (idx_projects_workspace_name 범위 스캔, 한 번의 쿼리)
+    // keyword 는 LIKE 와일드카드를 '!' 로 이스케이프한 값, null 이면 워크스페이스 전체
+    @Query("SELECT new com.teamhub.dto.response.ProjectResponse(" +
+            "p.id, p.name, p.description, p.workspace.id, COUNT(t), p.createdAt) " +
+            "FROM Project p LEFT JOIN p.tasks t " +
             "WHERE p.workspace.id = :workspaceId " +
-            "AND (:keyword IS NOT NULL OR p.name LIKE %:keyword% OR p.description LIKE %:keyword%) " +
+            "AND (:keyword IS NULL OR p.name LIKE CONCAT(:keyword, '%') ESCAPE '!') " +
+            "GROUP BY p.id, p.name, p.description, p.workspace.id, p.createdAt " +
             "ORDER BY p.createdAt DESC")
-    List<Project> searchProjects(
+    List<ProjectResponse> searchProjects(
             @Param("workspaceId") Long workspaceId,
             @Param("keyword") String keyword
     );
 
     Long countByWorkspaceId(Long workspaceId);
+
+    // 검색 재색인용 id 순 청크 조회 (삭제된 워크스페이스의 프로젝트 제외 - 조인 대상에는 @SQLRestriction 이 적용되지 않음)
+    @Query("SELECT p FROM Project p JOIN p.workspace w " +
+            "WHERE p.id > :lastId AND w.isDeleted = false ORDER BY p.id ASC")
+    List<Project> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,40 @@
+package com.teamhub.repository;
+
+import com.teamhub.domain.stats.ProjectTaskStats;
+import com.teamhub.repository.projection.ProjectProgressProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+
+    List<ProjectTaskStats> findAllByProjectId(Long projectId);
+
+    // 프로젝트별 진행률 (태스크가 없는 프로젝트도 포함, 카운터 테이블에서 조회)
+    @Query("SELECT p.id AS projectId, p.name AS projectName, " +
+            "COALESCE(SUM(s.taskCount), 0) AS totalTasks, " +
+            "COALESCE(SUM(CASE WHEN s.status = 'DONE' THEN s.taskCount ELSE 0 END), 0) AS completedTasks " +
+            "FROM Project p LEFT JOIN ProjectTaskStats s ON s.projectId = p.id " +
+            "WHERE p.workspace.id = :workspaceId " +
+            "GROUP BY p.id, p.name " +
+            "ORDER BY p.id ASC")
+    List<ProjectProgressProjection> findProgressByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 상태별 태스크 수 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, workspace_id, status, task_count) " +
+            "VALUES (:projectId, :workspaceId, :status, :delta) " +
+            "ON DUPLICATE KEY UPDATE task_count = task_count + :delta",
+            nativeQuery = true)
+    int increment(@Param("projectId") Long projectId,
+                  @Param("workspaceId") Long workspaceId,
+                  @Param("status") String status,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskStats s WHERE s.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
@@ -2,10 +2,24 @@ package com.teamhub.repository;
 
 import com.teamhub.domain.project.TaskLabel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskLabelRepository extends JpaRepository<TaskLabel, Long> {
     List<TaskLabel> findAllByTaskId(Long taskId);
     void deleteByTaskIdAndLabelId(Long taskId, Long labelId);
-}
\ No newline at end of file
+
+    // 일괄 라벨 추가 시 이미 붙어 있는 (taskId, labelId) 쌍
+    @Query("SELECT tl.task.id, tl.label.id FROM TaskLabel tl WHERE tl.task.id IN :taskIds AND tl.label.id IN :labelIds")
+    List<Object[]> findPairsByTaskIdInAndLabelIdIn(@Param("taskIds") Collection<Long> taskIds,
+                                                   @Param("labelIds") Collection<Long> labelIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskLabel tl WHERE tl.task.id IN :taskIds AND tl.label.id IN :labelIds")
+    int deleteAllByTaskIdInAndLabelIdIn(@Param("taskIds") Collection<Long> taskIds,
+                                        @Param("labelIds") Collection<Long> labelIds);
+}
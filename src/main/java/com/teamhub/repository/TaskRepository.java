@@ -1,22 +1,28 @@
 package com.teamhub.repository;
 
 import com.teamhub.domain.project.Task;
+import com.teamhub.domain.user.User;
 import com.teamhub.enums.project.TaskPriority;
 import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.repository.projection.TaskCountProjection;
+import com.teamhub.repository.projection.TaskStatsRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    List<Task> findAllByProjectIdOrderByDisplayOrderAsc(Long projectId);
+    List<Task> findAllByProjectIdOrderByRankKeyAscIdAsc(Long projectId);
 
-    List<Task> findAllByProjectIdAndStatusOrderByDisplayOrderAsc(Long projectId, TaskStatus status);
+    List<Task> findAllByProjectIdAndStatusOrderByRankKeyAscIdAsc(Long projectId, TaskStatus status);
 
     @Query("SELECT t FROM Task t WHERE t.assignee.id = :userId ORDER BY t.dueDate ASC")
     List<Task> findAllByAssigneeId(@Param("userId") Long userId);
@@ -27,10 +33,9 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
     Long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
 
-    // 워크스페이스 내 검색
+    // 워크스페이스 내 필터 검색 (키워드 검색은 검색 인덱스 사용)
     @Query("SELECT t FROM Task t " +
             "WHERE t.project.workspace.id = :workspaceId " +
-            "AND (:keyword IS NULL OR t.title LIKE %:keyword% OR t.description LIKE %:keyword%) " +
             "AND (:status IS NULL OR t.status = :status) " +
             "AND (:priority IS NULL OR t.priority = :priority) " +
             "AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId) " +
@@ -40,37 +45,35 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "ORDER BY t.createdAt DESC")
     List<Task> searchTasks(
             @Param("workspaceId") Long workspaceId,
-            @Param("keyword") String keyword,
             @Param("status") TaskStatus status,
             @Param("priority")TaskPriority priority,
             @Param("assigneeId") Long assigneeId,
             @Param("projectId") Long projectId,
             @Param("dueDateFrom") LocalDate dueDateFrom,
-            @Param("dueDateTo") LocalDate dueDateTo
+            @Param("dueDateTo") LocalDate dueDateTo,
+            Pageable pageable
     );
 
     // 워크스페이스 내 전체 태스크 수
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.workspace.id = :workspaceId")
     Long countByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
-    // 워크스페이스 내 상태별 태스크 수
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.workspace.id = :workspaceId AND t.status = :status")
-    Long countByWorkspaceIdAndStatus(@Param("workspaceId") Long workspaceId, @Param("status") TaskStatus status);
+    // 대시보드 집계 (담당자 / 상태별 태스크 수를 한 번에 조회)
+    @Query("SELECT t.assignee.id AS assigneeId, t.status AS status, COUNT(t) AS taskCount " +
+        "FROM Task t WHERE t.project.workspace.id = :workspaceId AND t.assignee IS NOT NULL " +
+        "GROUP BY t.assignee.id, t.status")
+    List<TaskCountProjection> aggregateByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
-    // 멤버별 배정된 태스크 수
-    @Query("SELECT t.assignee.id, COUNT(t) FROM Task t " +
-        "WHERE t.project.workspace.id = :workspaceId AND t.assignee IS NOT NULL " +
-        "GROUP BY t.assignee.id")
-    List<Object[]> countByWorkspaceIdGroupByAssignee(@Param("workspaceId") Long workspaceId);
-
-    // 멤버별 완료된 태스크 수
-    @Query("SELECT t.assignee.id, COUNT(t) FROM Task t " +
-        "WHERE t.project.workspace.id = :workspaceId AND t.assignee IS NOT NULL AND t.status = 'DONE' " +
-        "GROUP BY t.assignee.id")
-    List<Object[]> countCompletedByWorkspaceIdGroupByAssignee(@Param("workspaceId") Long workspaceId);
+    // 카운터 재집계용 프로젝트 / 상태별 실제 태스크 수 (네이티브 쿼리)
+    @Query(value = "SELECT t.project_id AS projectId, p.workspace_id AS workspaceId, t.status AS status, COUNT(*) AS taskCount " +
+        "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+        "WHERE t.is_deleted = false AND p.is_deleted = false " +
+        "GROUP BY t.project_id, p.workspace_id, t.status",
+        nativeQuery = true)
+    List<TaskStatsRow> countAllGroupByProjectAndStatus();
 
     // 마감 임박 태스크 (7일 이내)
-    @Query("SELECT t FROM Task t WHERE t.project.workspace.id = :workspaceId " +
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.workspace.id = :workspaceId " +
         "AND t.status != 'DONE' AND t.dueDate IS NOT NULL " +
         "AND t.dueDate BETWEEN :today AND :endDate ORDER BY t.dueDate ASC")
     List<Task> findUpcomingTasks(@Param("workspaceId") Long workspaceId,
@@ -84,11 +87,123 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     //Task 목록 페이징
     Page<Task> findAllByProjectId(Long projectId, Pageable pageable);
 
-    // 마감일 범위 내 태스크 조회 (스케줄러용)
-    @Query("SELECT t FROM Task t " +
-            "WHERE t.dueDate BETWEEN :startDate AND :endDate " +
+    // Task 목록 커서 페이징 - 첫 페이지 (rankKey, id 순)
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee " +
+            "WHERE t.project.id = :projectId " +
+            "ORDER BY t.rankKey ASC, t.id ASC")
+    List<Task> findFirstPageByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // Task 목록 커서 페이징 - (rankKey, id) 이후부터 seek
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee " +
+            "WHERE t.project.id = :projectId " +
+            "AND t.rankKey >= :rankKey " +
+            "AND (t.rankKey > :rankKey OR t.id > :id) " +
+            "ORDER BY t.rankKey ASC, t.id ASC")
+    List<Task> findPageByProjectIdAfter(@Param("projectId") Long projectId,
+                                        @Param("rankKey") String rankKey,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // Task 목록 커서 페이징 - 키가 아직 없는 태스크 (정렬상 맨 앞) 에서 이어서 seek
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee " +
+            "WHERE t.project.id = :projectId " +
+            "AND (t.rankKey IS NOT NULL OR t.id > :id) " +
+            "ORDER BY t.rankKey ASC, t.id ASC")
+    List<Task> findPageByProjectIdAfterUnranked(@Param("projectId") Long projectId,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 보드 순서 - 프로젝트의 마지막 키 (새 태스크는 그 뒤에)
+    @Query("SELECT MAX(t.rankKey) FROM Task t WHERE t.project.id = :projectId")
+    String findMaxRankKey(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.rankKey FROM Task t WHERE t.id = :id")
+    String findRankKeyById(@Param("id") Long id);
+
+    // 보드 순서 - (rankKey, id) 바로 다음 태스크의 키 (이동 중인 태스크 제외)
+    @Query("SELECT t.rankKey FROM Task t " +
+            "WHERE t.project.id = :projectId AND t.id <> :excludeId " +
+            "AND (t.rankKey > :rankKey OR (t.rankKey = :rankKey AND t.id > :id)) " +
+            "ORDER BY t.rankKey ASC, t.id ASC")
+    List<String> findNextRankKeys(@Param("projectId") Long projectId,
+                                  @Param("rankKey") String rankKey,
+                                  @Param("id") Long id,
+                                  @Param("excludeId") Long excludeId,
+                                  Pageable pageable);
+
+    // 보드 순서 - (rankKey, id) 바로 이전 태스크의 키 (이동 중인 태스크 제외)
+    @Query("SELECT t.rankKey FROM Task t " +
+            "WHERE t.project.id = :projectId AND t.id <> :excludeId " +
+            "AND (t.rankKey < :rankKey OR (t.rankKey = :rankKey AND t.id < :id)) " +
+            "ORDER BY t.rankKey DESC, t.id DESC")
+    List<String> findPreviousRankKeys(@Param("projectId") Long projectId,
+                                      @Param("rankKey") String rankKey,
+                                      @Param("id") Long id,
+                                      @Param("excludeId") Long excludeId,
+                                      Pageable pageable);
+
+    // 재배치 순서 - 키가 없는 기존 태스크는 displayOrder 순으로 앞에
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId " +
+            "ORDER BY t.rankKey ASC NULLS FIRST, t.displayOrder ASC, t.id ASC")
+    List<Long> findIdsForRebalance(@Param("projectId") Long projectId);
+
+    // 키가 없는 태스크가 남은 프로젝트 (idx_tasks_rank_key 로 NULL 만 조회)
+    @Query("SELECT DISTINCT t.project.id FROM Task t WHERE t.rankKey IS NULL")
+    List<Long> findProjectIdsWithoutRankKey();
+
+    // 검색 결과 id 로 태스크 일괄 조회
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.id IN :ids")
+    List<Task> findAllWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 변경 대상 조회 - 워크스페이스 / 담당자 / 생성자까지 한 번에
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p JOIN FETCH p.workspace " +
+            "LEFT JOIN FETCH t.assignee JOIN FETCH t.createdBy WHERE t.id IN :ids")
+    List<Task> findAllForBulkByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 변경 (set-based) - 영속성 컨텍스트를 비우므로 호출 전에 로드한 엔티티는 다시 조회해야 한다
+    // 이미 같은 상태인 태스크는 건드리지 않음 (completedAt 유지), completedAt 은 DONE 이면 now / 아니면 null
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completedAt = :completedAt, t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.status <> :status")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") TaskStatus status,
+                         @Param("completedAt") LocalDateTime completedAt,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :now WHERE t.id IN :ids")
+    int bulkUpdatePriority(@Param("ids") Collection<Long> ids,
+                           @Param("priority") TaskPriority priority,
+                           @Param("now") LocalDateTime now);
+
+    // assignee 가 null 이면 담당자 해제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now WHERE t.id IN :ids")
+    int bulkUpdateAssignee(@Param("ids") Collection<Long> ids,
+                           @Param("assignee") User assignee,
+                           @Param("now") LocalDateTime now);
+
+    // dueDate 가 null 이면 마감일 해제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.dueDate = :dueDate, t.updatedAt = :now WHERE t.id IN :ids")
+    int bulkUpdateDueDate(@Param("ids") Collection<Long> ids,
+                          @Param("dueDate") LocalDate dueDate,
+                          @Param("now") LocalDateTime now);
+
+    // 검색 재색인용 id 순 청크 조회 (삭제된 프로젝트 / 워크스페이스의 태스크 제외)
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p JOIN p.workspace w LEFT JOIN FETCH t.assignee " +
+            "WHERE t.id > :lastId AND p.isDeleted = false AND w.isDeleted = false ORDER BY t.id ASC")
+    List<Task> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 마감일 범위 내 태스크 청크 조회 (스케줄러용) - (dueDate, id) 이후부터 seek, 담당자 함께 조회
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignee " +
+            "WHERE t.dueDate >= :lastDueDate " +
+            "AND (t.dueDate > :lastDueDate OR t.id > :lastId) " +
+            "AND t.dueDate <= :endDate " +
             "AND t.status != 'DONE' " +
-            "AND t.assignee IS NOT NULL")
-    List<Task> findTasksDueBetween(@Param("startDate") LocalDate startDate,
-                                   @Param("endDate") LocalDate endDate);
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findDueChunkAfter(@Param("lastDueDate") LocalDate lastDueDate,
+                                 @Param("lastId") Long lastId,
+                                 @Param("endDate") LocalDate endDate,
+                                 Pageable pageable);
 }
@@ -2,6 +2,7 @@ package com.teamhub.repository;
 
 import com.teamhub.domain.user.User;
 import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.enums.workspace.WorkspaceRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +16,11 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
     Optional<WorkspaceMember> findByWorkspaceIdAndUserId(@Param("workspaceId") Long workspaceId,
                                                          @Param("userId") Long userId);
 
+    // 권한 확인용 - 역할만 조회
+    @Query("SELECT wm.role FROM WorkspaceMember wm WHERE wm.workspace.id = :workspaceId AND wm.user.id = :userId")
+    Optional<WorkspaceRole> findRoleByWorkspaceIdAndUserId(@Param("workspaceId") Long workspaceId,
+                                                          @Param("userId") Long userId);
+
     @Query("SELECT wm FROM WorkspaceMember wm JOIN FETCH wm.user WHERE wm.workspace.id = :workspaceId")
     List<WorkspaceMember> findAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
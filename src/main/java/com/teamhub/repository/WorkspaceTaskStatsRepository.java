@@ -0,0 +1,31 @@
+package com.teamhub.repository;
+
+import com.teamhub.domain.stats.WorkspaceTaskStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WorkspaceTaskStatsRepository extends JpaRepository<WorkspaceTaskStats, Long> {
+
+    List<WorkspaceTaskStats> findAllByWorkspaceId(Long workspaceId);
+
+    List<WorkspaceTaskStats> findAllByWorkspaceIdIn(Collection<Long> workspaceIds);
+
+    // 전체 태스크 수 (관리자용)
+    @Query("SELECT COALESCE(SUM(s.taskCount), 0) FROM WorkspaceTaskStats s")
+    Long sumTaskCount();
+
+    // 상태별 태스크 수 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO workspace_task_stats (workspace_id, status, task_count) " +
+            "VALUES (:workspaceId, :status, :delta) " +
+            "ON DUPLICATE KEY UPDATE task_count = task_count + :delta",
+            nativeQuery = true)
+    int increment(@Param("workspaceId") Long workspaceId,
+                  @Param("status") String status,
+                  @Param("delta") long delta);
+}
@@ -0,0 +1,15 @@
+package com.teamhub.repository.projection;
+
+/**
+ * 프로젝트별 전체 / 완료 태스크 수
+ */
+public interface ProjectProgressProjection {
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    Long getTotalTasks();
+
+    Long getCompletedTasks();
+}
@@ -0,0 +1,16 @@
+package com.teamhub.repository.projection;
+
+import com.teamhub.enums.project.TaskStatus;
+
+/**
+ * (담당자, 상태) 단위로 묶인 태스크 수
+ */
+public interface TaskCountProjection {
+
+    // 담당자가 없는 태스크는 null
+    Long getAssigneeId();
+
+    TaskStatus getStatus();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,15 @@
+package com.teamhub.repository.projection;
+
+/**
+ * 카운터 재집계용 (프로젝트, 상태) 단위 실제 태스크 수
+ */
+public interface TaskStatsRow {
+
+    Long getProjectId();
+
+    Long getWorkspaceId();
+
+    String getStatus();
+
+    Long getTaskCount();
+}
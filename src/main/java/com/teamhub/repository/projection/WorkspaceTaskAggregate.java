@@ -0,0 +1,46 @@
+package com.teamhub.repository.projection;
+
+import com.teamhub.enums.project.TaskStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워크스페이스 담당자별 태스크 집계 결과
+ * 한 번의 GROUP BY 조회 결과로 담당자별 배정 / 완료 수를 계산한다.
+ */
+public class WorkspaceTaskAggregate {
+
+    private final Map<Long, Long> assignedCounts = new HashMap<>();
+    private final Map<Long, Long> assignedDoneCounts = new HashMap<>();
+
+    private WorkspaceTaskAggregate() {
+    }
+
+    public static WorkspaceTaskAggregate of(List<TaskCountProjection> rows) {
+        WorkspaceTaskAggregate aggregate = new WorkspaceTaskAggregate();
+        rows.forEach(aggregate::add);
+        return aggregate;
+    }
+
+    private void add(TaskCountProjection row) {
+        if (row.getAssigneeId() == null) {
+            return;
+        }
+
+        long count = row.getTaskCount();
+        assignedCounts.merge(row.getAssigneeId(), count, Long::sum);
+        if (row.getStatus() == TaskStatus.DONE) {
+            assignedDoneCounts.merge(row.getAssigneeId(), count, Long::sum);
+        }
+    }
+
+    public long countAssignedTo(Long userId) {
+        return assignedCounts.getOrDefault(userId, 0L);
+    }
+
+    public long countCompletedBy(Long userId) {
+        return assignedDoneCounts.getOrDefault(userId, 0L);
+    }
+}
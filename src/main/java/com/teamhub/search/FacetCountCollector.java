@@ -0,0 +1,78 @@
+package com.teamhub.search;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 전체에 대해 필드 값별 문서 수를 세는 수집기
+ * 세그먼트 안에서는 ordinal 배열로 세고, 세그먼트가 바뀔 때 한 번만 문자열로 변환한다.
+ */
+class FacetCountCollector extends SimpleCollector {
+
+    private final List<String> fields;
+    private final Map<String, Map<String, Long>> counts = new HashMap<>();
+
+    private SortedDocValues[] values;
+    private int[][] ordCounts;
+
+    FacetCountCollector(List<String> fields) {
+        this.fields = fields;
+        fields.forEach(field -> counts.put(field, new HashMap<>()));
+    }
+
+    @Override
+    protected void doSetNextReader(LeafReaderContext context) throws IOException {
+        flush();
+
+        values = new SortedDocValues[fields.size()];
+        ordCounts = new int[fields.size()][];
+        for (int i = 0; i < fields.size(); i++) {
+            values[i] = DocValues.getSorted(context.reader(), fields.get(i));
+            ordCounts[i] = new int[values[i].getValueCount()];
+        }
+    }
+
+    @Override
+    public void collect(int doc) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].advanceExact(doc)) {
+                ordCounts[i][values[i].ordValue()]++;
+            }
+        }
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    Map<String, Map<String, Long>> getCounts() throws IOException {
+        flush();
+        return counts;
+    }
+
+    private void flush() throws IOException {
+        if (values == null) {
+            return;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            Map<String, Long> fieldCounts = counts.get(fields.get(i));
+            for (int ord = 0; ord < ordCounts[i].length; ord++) {
+                if (ordCounts[i][ord] > 0) {
+                    fieldCounts.merge(values[i].lookupOrd(ord).utf8ToString(), (long) ordCounts[i][ord], Long::sum);
+                }
+            }
+        }
+        values = null;
+        ordCounts = null;
+    }
+}
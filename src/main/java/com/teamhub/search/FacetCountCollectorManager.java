@@ -0,0 +1,38 @@
+package com.teamhub.search;
+
+import org.apache.lucene.search.CollectorManager;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 슬라이스별 FacetCountCollector 결과를 필드 -> (값 -> 문서 수) 로 합친다
+ */
+class FacetCountCollectorManager implements CollectorManager<FacetCountCollector, Map<String, Map<String, Long>>> {
+
+    private final List<String> fields;
+
+    FacetCountCollectorManager(List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public FacetCountCollector newCollector() {
+        return new FacetCountCollector(fields);
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> reduce(Collection<FacetCountCollector> collectors) throws IOException {
+        Map<String, Map<String, Long>> merged = new HashMap<>();
+        fields.forEach(field -> merged.put(field, new HashMap<>()));
+
+        for (FacetCountCollector collector : collectors) {
+            collector.getCounts().forEach((field, counts) ->
+                    counts.forEach((value, count) -> merged.get(field).merge(value, count, Long::sum)));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,94 @@
+package com.teamhub.search;
+
+import com.teamhub.domain.file.FileAttachment;
+import com.teamhub.domain.project.Comment;
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.project.Task;
+import com.teamhub.enums.search.SearchDocumentType;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 인덱스에 저장되는 문서 스냅샷
+ * 태스크가 아닌 문서는 status / priority / assigneeId / dueDate 가 null 이다.
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        Long id,
+        Long workspaceId,
+        Long projectId,
+        Long taskId,
+        String title,
+        String content,
+        String status,
+        String priority,
+        Long assigneeId,
+        LocalDate dueDate
+) {
+
+    public static SearchDocument ofTask(Task task) {
+        return new SearchDocument(
+                SearchDocumentType.TASK,
+                task.getId(),
+                task.getProject().getWorkspace().getId(),
+                task.getProject().getId(),
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                task.getPriority() != null ? task.getPriority().name() : null,
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                task.getDueDate()
+        );
+    }
+
+    public static SearchDocument ofProject(Project project) {
+        return new SearchDocument(
+                SearchDocumentType.PROJECT,
+                project.getId(),
+                project.getWorkspace().getId(),
+                project.getId(),
+                null,
+                project.getName(),
+                project.getDescription(),
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public static SearchDocument ofComment(Comment comment) {
+        Task task = comment.getTask();
+        return new SearchDocument(
+                SearchDocumentType.COMMENT,
+                comment.getId(),
+                task.getProject().getWorkspace().getId(),
+                task.getProject().getId(),
+                task.getId(),
+                null,
+                comment.getContent(),
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public static SearchDocument ofFile(FileAttachment file) {
+        Task task = file.getTask();
+        return new SearchDocument(
+                SearchDocumentType.FILE,
+                file.getId(),
+                task.getProject().getWorkspace().getId(),
+                task.getProject().getId(),
+                task.getId(),
+                file.getOriginalName(),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
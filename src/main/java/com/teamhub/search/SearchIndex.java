@@ -0,0 +1,452 @@
+package com.teamhub.search;
+
+import com.teamhub.config.SearchIndexProperties;
+import com.teamhub.dto.request.TaskSearchRequest;
+import com.teamhub.dto.response.SearchResultResponse;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.event.SearchIndexEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MultiCollectorManager;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 워크스페이스 통합 검색용 임베디드 Lucene 인덱스
+ * 쓰기 경로에서 발행한 SearchIndexEvent 를 커밋 후 반영하고,
+ * 검색기는 refresh-interval 주기로 갱신된다 (near-real-time).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndex {
+
+    static final String UID = "uid";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String WORKSPACE_ID = "workspaceId";
+    static final String PROJECT_ID = "projectId";
+    static final String TASK_ID = "taskId";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String SNIPPET = "snippet";
+    static final String STATUS = "status";
+    static final String PRIORITY = "priority";
+    static final String ASSIGNEE_ID = "assigneeId";
+    static final String DUE_DATE = "dueDate";
+    static final String INDEXED_AT = "indexedAt";
+
+    // 태스크 검색 결과와 함께 개수를 집계하는 필드 (SortedDocValues)
+    static final List<String> TASK_FACET_FIELDS = List.of(STATUS, PRIORITY, ASSIGNEE_ID, PROJECT_ID);
+
+    // 필드 구성이 바뀌면 올려서 기존 인덱스를 비우고 재색인
+    private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+    private static final String SCHEMA_VERSION = "2";
+
+    private static final int SNIPPET_LENGTH = 200;
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final SearchIndexProperties properties;
+
+    // 한글은 형태소 분석 대신 bigram 으로 색인 (DB 의 ngram 전문 검색과 같은 방식)
+    private final Analyzer analyzer = new CJKAnalyzer();
+
+    // 전체 재색인 진행 중 상태 (진행 중이 아니면 null)
+    private volatile ReindexSession reindexSession;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    @PostConstruct
+    public void open() {
+        try {
+            directory = FSDirectory.open(Paths.get(properties.getDir()).toAbsolutePath().normalize());
+
+            boolean outdated = DirectoryReader.indexExists(directory)
+                    && !SCHEMA_VERSION.equals(SegmentInfos.readLatestCommit(directory).getUserData().get(SCHEMA_VERSION_KEY));
+            if (outdated) {
+                log.info("Search index schema changed. Recreating index");
+            }
+
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(outdated ? IndexWriterConfig.OpenMode.CREATE : IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            writer.setLiveCommitData(Map.of(SCHEMA_VERSION_KEY, SCHEMA_VERSION).entrySet());
+            searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new RuntimeException("검색 인덱스를 열 수 없습니다", e);
+        }
+
+        double maxStaleSec = properties.getRefreshInterval().toMillis() / 1000.0;
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, 0.0);
+        reopenThread.setName("search-index-refresh");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexEvent(SearchIndexEvent event) {
+        try {
+            ReindexSession session = reindexSession;
+            if (session == null) {
+                apply(event, null);
+                return;
+            }
+            // 재색인 청크 쓰기와 겹치지 않도록 재색인 중에는 같은 잠금 아래에서 반영하고 기록을 남긴다
+            synchronized (session) {
+                apply(event, session);
+            }
+        } catch (IOException e) {
+            // 색인 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남김 (재색인으로 복구)
+            log.error("Failed to apply search index event: {}", event, e);
+        }
+    }
+
+    public void upsert(SearchDocument doc, long indexedAt) throws IOException {
+        writer.updateDocument(new Term(UID, uid(doc.type(), doc.id())), toLuceneDocument(doc, indexedAt));
+    }
+
+    /**
+     * 전체 재색인 시작 - 이후 증분 반영된 문서 / 삭제된 범위를 기록해 재색인 스냅샷이 덮어쓰지 않게 한다
+     */
+    public void beginReindex(long startedAt) {
+        reindexSession = new ReindexSession(startedAt);
+    }
+
+    /**
+     * 재색인 청크의 문서 색인. 읽은 뒤 증분 반영 (수정 / 삭제) 된 문서는 더 최신이므로 건너뛴다.
+     *
+     * @return 색인했으면 true
+     */
+    public boolean reindexUpsert(SearchDocument doc) throws IOException {
+        ReindexSession session = reindexSession;
+        if (session == null) {
+            throw new IllegalStateException("재색인이 시작되지 않았습니다");
+        }
+        synchronized (session) {
+            if (session.isStale(doc)) {
+                return false;
+            }
+            upsert(doc, session.startedAt);
+            return true;
+        }
+    }
+
+    /**
+     * 전체 재색인 마무리 - completed 이면 이번 재색인에서 색인되지 않았고 그 뒤 증분 반영도 없었던 문서
+     * (DB 에서 사라진 문서) 를 제거한다. 재색인 문서는 indexedAt = startedAt, 재색인 중 증분 색인은 그 이후 시각이라 유지된다.
+     * 중간에 실패했으면 아직 다시 색인하지 못한 문서가 지워지지 않도록 제거하지 않는다.
+     */
+    public void endReindex(boolean completed) throws IOException {
+        ReindexSession session = reindexSession;
+        if (session == null) {
+            return;
+        }
+        try {
+            if (completed) {
+                synchronized (session) {
+                    writer.deleteDocuments(LongPoint.newRangeQuery(INDEXED_AT, Long.MIN_VALUE, session.startedAt - 1));
+                }
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } finally {
+            reindexSession = null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    // 색인된 문서를 주기적으로 디스크에 확정 (검색 반영과는 별개)
+    @Scheduled(fixedDelay = 60_000)
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.error("Failed to commit search index", e);
+        }
+    }
+
+    public List<SearchResultResponse> search(Long workspaceId, String keyword, SearchDocumentType type, int limit) {
+        Query textQuery = buildTextQuery(keyword);
+        if (textQuery == null) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(WORKSPACE_ID, String.valueOf(workspaceId))), BooleanClause.Occur.FILTER);
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query.build(), limit);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchResultResponse> results = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                results.add(toResult(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new RuntimeException("검색 인덱스 조회에 실패했습니다", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 태스크 검색 - 상위 offset + size 개의 관련도순 결과와 필드별 개수를 한 번의 순회로 구한다
+     * 키워드가 없으면 필터 조건에 맞는 워크스페이스 전체 태스크가 대상이다.
+     */
+    public TaskSearchHits searchTasks(Long workspaceId, TaskSearchRequest req, int offset, int size) {
+        Query textQuery = buildTextQuery(req.getKeyword());
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery != null ? textQuery : new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(WORKSPACE_ID, String.valueOf(workspaceId))), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(TYPE, SearchDocumentType.TASK.name())), BooleanClause.Occur.FILTER);
+        addTermFilter(query, STATUS, req.getStatus() != null ? req.getStatus().name() : null);
+        addTermFilter(query, PRIORITY, req.getPriority() != null ? req.getPriority().name() : null);
+        addTermFilter(query, ASSIGNEE_ID, req.getAssigneeId());
+        addTermFilter(query, PROJECT_ID, req.getProjectId());
+        if (req.getDueDateFrom() != null || req.getDueDateTo() != null) {
+            long from = req.getDueDateFrom() != null ? req.getDueDateFrom().toEpochDay() : Long.MIN_VALUE;
+            long to = req.getDueDateTo() != null ? req.getDueDateTo().toEpochDay() : Long.MAX_VALUE;
+            query.add(LongPoint.newRangeQuery(DUE_DATE, from, to), BooleanClause.Occur.FILTER);
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+
+            // 개수 집계를 위해 어차피 전체 일치 문서를 순회하므로 totalHits 도 정확히 센다
+            Object[] results = searcher.search(query.build(), new MultiCollectorManager(
+                    new TopScoreDocCollectorManager(offset + size, Integer.MAX_VALUE),
+                    new FacetCountCollectorManager(TASK_FACET_FIELDS)));
+
+            TopDocs topDocs = (TopDocs) results[0];
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, Long>> facets = (Map<String, Map<String, Long>>) results[1];
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> taskIds = new ArrayList<>(size);
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                taskIds.add(storedFields.document(topDocs.scoreDocs[i].doc).getField(ID).numericValue().longValue());
+            }
+
+            return new TaskSearchHits(taskIds, topDocs.totalHits.value, facets);
+        } catch (IOException e) {
+            throw new RuntimeException("검색 인덱스 조회에 실패했습니다", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    //helper methods
+    private void apply(SearchIndexEvent event, ReindexSession session) throws IOException {
+        switch (event.action()) {
+            case UPSERT -> {
+                upsert(event.document(), System.currentTimeMillis());
+                if (session != null) session.touched.add(uid(event.type(), event.id()));
+            }
+            case DELETE -> {
+                delete(event.type(), event.id());
+                // 삭제된 문서와 하위 문서 (태스크 / 프로젝트 삭제 시 댓글, 파일) 는 재색인이 다시 넣지 않는다
+                if (session != null) session.deletedScopes.add(uid(event.type(), event.id()));
+            }
+            case DELETE_WORKSPACE -> {
+                writer.deleteDocuments(new Term(WORKSPACE_ID, String.valueOf(event.id())));
+                if (session != null) session.deletedScopes.add(WORKSPACE_ID + ":" + event.id());
+            }
+        }
+    }
+
+    private void addTermFilter(BooleanQuery.Builder query, String field, Object value) {
+        if (value != null) {
+            query.add(new TermQuery(new Term(field, String.valueOf(value))), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    private void delete(SearchDocumentType type, Long id) throws IOException {
+        Term self = new Term(UID, uid(type, id));
+        switch (type) {
+            case PROJECT -> writer.deleteDocuments(self, new Term(PROJECT_ID, String.valueOf(id)));
+            case TASK -> writer.deleteDocuments(self, new Term(TASK_ID, String.valueOf(id)));
+            default -> writer.deleteDocuments(self);
+        }
+    }
+
+    // 제목 또는 본문에 키워드의 모든 토큰이 포함된 문서 (제목 일치에 가중치)
+    private Query buildTextQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(TITLE, keyword, BooleanClause.Occur.MUST);
+        Query content = builder.createBooleanQuery(CONTENT, keyword, BooleanClause.Occur.MUST);
+        if (title == null && content == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (title != null) {
+            query.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (content != null) {
+            query.add(content, BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private Document toLuceneDocument(SearchDocument doc, long indexedAt) {
+        Document d = new Document();
+        d.add(new StringField(UID, uid(doc.type(), doc.id()), Field.Store.NO));
+        d.add(new StringField(TYPE, doc.type().name(), Field.Store.YES));
+        d.add(new StoredField(ID, doc.id()));
+        d.add(new StringField(WORKSPACE_ID, String.valueOf(doc.workspaceId()), Field.Store.NO));
+        d.add(new StringField(PROJECT_ID, String.valueOf(doc.projectId()), Field.Store.YES));
+        d.add(new SortedDocValuesField(PROJECT_ID, new BytesRef(String.valueOf(doc.projectId()))));
+        if (doc.taskId() != null) {
+            d.add(new StringField(TASK_ID, String.valueOf(doc.taskId()), Field.Store.YES));
+        }
+        if (doc.title() != null) {
+            d.add(new TextField(TITLE, doc.title(), Field.Store.YES));
+        }
+        if (doc.content() != null) {
+            d.add(new TextField(CONTENT, doc.content(), Field.Store.NO));
+            d.add(new StoredField(SNIPPET, truncate(doc.content())));
+        }
+        addKeyword(d, STATUS, doc.status());
+        addKeyword(d, PRIORITY, doc.priority());
+        addKeyword(d, ASSIGNEE_ID, doc.assigneeId() != null ? String.valueOf(doc.assigneeId()) : null);
+        if (doc.dueDate() != null) {
+            d.add(new LongPoint(DUE_DATE, doc.dueDate().toEpochDay()));
+        }
+        d.add(new LongPoint(INDEXED_AT, indexedAt));
+        return d;
+    }
+
+    // 필터용 색인 + 개수 집계용 doc values
+    private void addKeyword(Document d, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        d.add(new StringField(field, value, Field.Store.NO));
+        d.add(new SortedDocValuesField(field, new BytesRef(value)));
+    }
+
+    private SearchResultResponse toResult(Document d, float score) {
+        String taskId = d.get(TASK_ID);
+        return SearchResultResponse.builder()
+                .type(SearchDocumentType.valueOf(d.get(TYPE)))
+                .id(d.getField(ID).numericValue().longValue())
+                .projectId(Long.valueOf(d.get(PROJECT_ID)))
+                .taskId(taskId != null ? Long.valueOf(taskId) : null)
+                .title(d.get(TITLE))
+                .snippet(d.get(SNIPPET))
+                .score(score)
+                .build();
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher: {}", e.getMessage());
+        }
+    }
+
+    private static String uid(SearchDocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    // 재색인 중 증분 반영 기록 (tombstone 포함). 접근은 세션 객체로 동기화한다
+    private static final class ReindexSession {
+
+        private final long startedAt;
+        private final Set<String> touched = new HashSet<>();
+        private final Set<String> deletedScopes = new HashSet<>();
+
+        private ReindexSession(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean isStale(SearchDocument doc) {
+            String uid = uid(doc.type(), doc.id());
+            return touched.contains(uid)
+                    || deletedScopes.contains(uid)
+                    || deletedScopes.contains(WORKSPACE_ID + ":" + doc.workspaceId())
+                    || (doc.projectId() != null && deletedScopes.contains(uid(SearchDocumentType.PROJECT, doc.projectId())))
+                    || (doc.taskId() != null && deletedScopes.contains(uid(SearchDocumentType.TASK, doc.taskId())));
+        }
+    }
+
+    private String truncate(String text) {
+        return text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) + "..." : text;
+    }
+}
@@ -0,0 +1,10 @@
+package com.teamhub.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태스크 검색 한 페이지 결과 - 관련도순 태스크 id, 전체 일치 수, 필드별 값 개수
+ */
+public record TaskSearchHits(List<Long> taskIds, long totalHits, Map<String, Map<String, Long>> facets) {
+}
@@ -28,38 +28,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
-        String requestURI = request.getRequestURI();
-
-        log.info("Request URI: {}", requestURI);
-        log.info("Token exists: {}", StringUtils.hasText(token));
-
-//        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-//            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-//            String email = jwtTokenProvider.getEmailFromToken(token);
-//
-//            UsernamePasswordAuthenticationToken authentication =
-//                    new UsernamePasswordAuthenticationToken(userId, email, List.of(new SimpleGrantedAuthority("ROLE_USER")));
-//        }
-//
-//        filterChain.doFilter(request, response);
 
         if(StringUtils.hasText(token)) {
-            boolean isValid = jwtTokenProvider.validateToken(token);
-            log.info("Token valid: {}", isValid);
-
-            if(isValid) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-
-                log.info("Authenticated user - ID: {}, Email: {}", userId, email);
+            // 서명 검증 + 클레임 추출을 한 번의 파싱으로 처리 (검증된 토큰은 캐시)
+            jwtTokenProvider.authenticate(token).ifPresent(principal -> {
+                log.debug("Authenticated user - ID: {}, URI: {}", principal.userId(), request.getRequestURI());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
-                                email,
+                                principal.userId(),
+                                principal.email(),
                                 List.of(new SimpleGrantedAuthority("ROLE_USER")));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -67,7 +48,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
-        log.info("Authorization header: {}", bearerToken);
 
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
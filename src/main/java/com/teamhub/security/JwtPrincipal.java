@@ -0,0 +1,9 @@
+package com.teamhub.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 사용자 정보
+ */
+public record JwtPrincipal(Long userId, String email, Instant expiresAt) {
+}
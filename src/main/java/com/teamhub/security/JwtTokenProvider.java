@@ -1,5 +1,6 @@
 package com.teamhub.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -8,18 +9,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     private final JwtProperties jwtProperties;
+    private final Cache<String, JwtPrincipal> verifiedTokenCache;
     private SecretKey key;
+    // 불변 / 스레드 안전하므로 한 번만 만들어 재사용
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     public String createAccessToken(Long userId, String email) {
@@ -49,32 +59,62 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try{
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+    /**
+     * 요청 인증용 - 같은 토큰은 만료 전까지 서명 재검증 없이 캐시된 사용자 정보를 사용한다.
+     * 캐시 키는 토큰 원문 대신 SHA-256 다이제스트.
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        String digest = digest(token);
+
+        JwtPrincipal cached = verifiedTokenCache.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 유효하지 않은 토큰은 캐시하지 않음
+        Optional<JwtPrincipal> principal = parseToken(token);
+        principal.ifPresent(p -> verifiedTokenCache.put(digest, p));
+        return principal;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명 / 만료를 검증하고 사용자 정보를 꺼낸다.
+     * 유효하지 않으면 empty.
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return Optional.of(new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getExpiration().toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
     public long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return Long.parseLong(claims.getSubject());
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return claims.get("email", String.class);
     }
@@ -4,19 +4,19 @@ import com.teamhub.domain.activity.ActivityLog;
 import com.teamhub.domain.user.User;
 import com.teamhub.domain.workspace.Workspace;
 import com.teamhub.dto.response.ActivityLogResponse;
-import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.activity.ActivityType;
 import com.teamhub.enums.activity.TargetType;
-import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ActivityLogRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,36 +25,51 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ActivityLogService {
 
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
     private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
 
+    /**
+     * 요청 트랜잭션 안에서 INSERT 하지 않고 커밋 후 비동기 writer 에 넘긴다 (롤백되면 기록하지 않음).
+     */
     public void log(Workspace workspace, User actor, ActivityType activityType,
                     TargetType targetType, Long targetId, String targetName, String details) {
-        ActivityLog activityLog  = ActivityLog.builder()
-                .activityType(activityType)
-                .workspace(workspace)
-                .actor(actor)
-                .targetType(targetType)
-                .targetId(targetId)
-                .targetName(targetName)
-                .details(details)
-                .build();
-
-        activityLogRepository.save(activityLog);
+        ActivityLogWriter.PendingActivityLog entry = new ActivityLogWriter.PendingActivityLog(
+                activityType, workspace.getId(), actor.getId(),
+                targetType, targetId, targetName, details, LocalDateTime.now());
+
+        afterCommit(() -> activityLogWriter.write(entry));
+    }
+
+    /**
+     * 일괄 작업용 - 커밋 후 한 번에 배치 INSERT
+     */
+    public void logAll(List<ActivityLogWriter.PendingActivityLog> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> activityLogWriter.writeAll(entries));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     @Transactional(readOnly = true)
     public List<ActivityLogResponse> getActivities(Long userId, Long workspaceId, int limit) {
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
         List<ActivityLog> logs = activityLogRepository.findByWorkspaceIdOrderByCreatedAtDesc(workspaceId, PageRequest.of(0, limit));
         return logs.stream()
                 .map(ActivityLogResponse::of)
                 .collect(Collectors.toList());
     }
-
-    //helper
-    private void findMemberOrThrow(Long workspaceId, Long userId) {
-        workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
 }
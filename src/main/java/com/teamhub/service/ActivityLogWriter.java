@@ -0,0 +1,258 @@
+package com.teamhub.service;
+
+import com.teamhub.config.ActivityLogWriterProperties;
+import com.teamhub.enums.activity.ActivityLogOverflowPolicy;
+import com.teamhub.enums.activity.ActivityType;
+import com.teamhub.enums.activity.TargetType;
+import com.teamhub.event.WorkspaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활동 로그 write-behind
+ * 요청 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 batch-size 개 또는 flush-interval 마다 모아서 JDBC 배치 INSERT 한다.
+ * 종료 시에는 새 로그를 호출 스레드에서 바로 쓰고, 큐에 남은 로그를 모두 기록한 뒤 끝난다.
+ * INSERT 가 실패하면 max-retries 번까지 지수 백오프로 재시도한다.
+ * (프로세스가 강제 종료되면 큐에 있던 로그는 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+    // target_type 은 @Enumerated 가 없어 ORDINAL 로 저장됨 (JPA 매핑과 동일하게 유지)
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_logs (activity_type, workspace_id, actor_id, target_type, target_id, target_name, details, " +
+                    "created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityLogWriterProperties properties;
+    private final BlockingQueue<PendingActivityLog> queue;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    // running 확인과 큐 삽입 사이에 종료가 끼어들지 않도록 write 는 읽기 잠금, 종료 전환은 쓰기 잠금
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public record PendingActivityLog(ActivityType activityType, Long workspaceId, Long actorId,
+                                     TargetType targetType, Long targetId, String targetName,
+                                     String details, LocalDateTime createdAt) {
+    }
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             ActivityLogWriterProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("activity.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        this.droppedCounter = Counter.builder("activity.log.dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("activity.log.failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "activity-log-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void write(PendingActivityLog entry) {
+        boolean queued;
+        runningLock.readLock().lock();
+        try {
+            queued = running && queue.offer(entry);
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        if (queued) {
+            return;
+        }
+
+        if (!running) {
+            flush(List.of(entry));
+            return;
+        }
+
+        if (properties.getOverflowPolicy() == ActivityLogOverflowPolicy.DROP) {
+            droppedCounter.increment();
+            log.warn("Activity log queue is full. Dropped log - workspace: {}, type: {}",
+                    entry.workspaceId(), entry.activityType());
+            return;
+        }
+        flush(List.of(entry));
+    }
+
+    /**
+     * 일괄 작업 로그 - 한 번의 읽기 잠금 안에서 큐에 넣어 플러셔가 batch-size 단위로 기록
+     * 큐에 다 들어가지 않으면 남은 로그에 overflow-policy 를 적용한다 (CALLER_RUNS 는 batch-size 단위로 바로 기록)
+     */
+    public void writeAll(List<PendingActivityLog> entries) {
+        int queued = 0;
+        runningLock.readLock().lock();
+        try {
+            if (running) {
+                while (queued < entries.size() && queue.offer(entries.get(queued))) {
+                    queued++;
+                }
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        if (queued == entries.size()) {
+            return;
+        }
+
+        List<PendingActivityLog> remaining = entries.subList(queued, entries.size());
+        if (running && properties.getOverflowPolicy() == ActivityLogOverflowPolicy.DROP) {
+            droppedCounter.increment(remaining.size());
+            log.warn("Activity log queue is full. Dropped {} logs - workspace: {}",
+                    remaining.size(), remaining.get(0).workspaceId());
+            return;
+        }
+        flushInBatches(remaining);
+    }
+
+    private void runFlusher() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<PendingActivityLog> batch = new ArrayList<>(properties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingActivityLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 로그가 들어온 뒤 flush-interval 까지 batch-size 만큼 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingActivityLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 이미 꺼낸 로그는 기록하고 종료
+                flush(batch);
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingActivityLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (!insertWithRetry(batch)) {
+            return;
+        }
+
+        // 대시보드 최근 활동은 로그가 실제로 기록된 뒤에 갱신
+        Set<Long> workspaceIds = new LinkedHashSet<>();
+        batch.forEach(entry -> workspaceIds.add(entry.workspaceId()));
+        workspaceIds.forEach(id -> eventPublisher.publishEvent(new WorkspaceChangedEvent(id)));
+    }
+
+    private boolean insertWithRetry(List<PendingActivityLog> batch) {
+        long backoffMillis = properties.getRetryBackoff().toMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                insert(batch);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.getMaxRetries()) {
+                    failedCounter.increment(batch.size());
+                    log.error("Failed to write {} activity logs after {} attempts", batch.size(), attempt + 1, e);
+                    return false;
+                }
+                log.warn("Failed to write {} activity logs. Retrying in {} ms: {}", batch.size(), backoffMillis, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedCounter.increment(batch.size());
+                log.error("Interrupted while retrying {} activity logs", batch.size());
+                return false;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private void insert(List<PendingActivityLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+            ps.setString(1, entry.activityType().name());
+            ps.setLong(2, entry.workspaceId());
+            ps.setLong(3, entry.actorId());
+            ps.setObject(4, entry.targetType() != null ? entry.targetType().ordinal() : null);
+            ps.setObject(5, entry.targetId());
+            ps.setString(6, entry.targetName());
+            ps.setString(7, entry.details());
+            ps.setTimestamp(8, createdAt);
+            ps.setTimestamp(9, createdAt);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 쓰기 잠금을 잡으면 큐에 넣는 중인 write 가 없음 - 이후 들어오는 로그는 호출 스레드에서 바로 기록
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        flusher.join(properties.getShutdownTimeout().toMillis());
+
+        List<PendingActivityLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flushInBatches(remaining);
+        log.info("Activity log writer stopped");
+    }
+
+    private void flushInBatches(List<PendingActivityLog> entries) {
+        for (int from = 0; from < entries.size(); from += properties.getBatchSize()) {
+            flush(entries.subList(from, Math.min(from + properties.getBatchSize(), entries.size())));
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.teamhub.enums.user.UserRole;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ActivityLogRepository;
 import com.teamhub.repository.ProjectRepository;
-import com.teamhub.repository.TaskRepository;
 import com.teamhub.repository.UserRepository;
 import com.teamhub.repository.WorkspaceRepository;
 import jakarta.transaction.Transactional;
@@ -19,6 +18,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,8 +33,8 @@ public class AdminService {
     private final UserRepository userRepository;
     private final WorkspaceRepository workspaceRepository;
     private final ProjectRepository projectRepository;
-    private final TaskRepository taskRepository;
     private final ActivityLogRepository activityLogRepository;
+    private final TaskStatsService taskStatsService;
 
     @Transactional
     public AdminDashboardResponse getAdminDashboard(Long userId) {
@@ -55,7 +55,7 @@ public class AdminService {
             .totalUsers(userRepository.count())
             .totalWorkspaces(workspaceRepository.count())
             .totalProjects(projectRepository.count())
-            .totalTasks(taskRepository.count())
+            .totalTasks(taskStatsService.getTotalTaskCount())
             .todaySignups(userRepository.countByCreatedAtAfter(todayStart))
             .weeklySignups(userRepository.countByCreatedAtAfter(weekAgo))
             .monthlySignups(userRepository.countByCreatedAtAfter(monthAgo))
@@ -105,20 +105,23 @@ public class AdminService {
             .collect(Collectors.toList());
 
         // 활발한 워크스페이스 TOP 10
-        List<ActiveWorkspace> topWorkspaces = workspaceRepository
-            .findTopWorkspacesByMemberCount(PageRequest.of(0,10))
+        List<Object[]> topWorkspaceRows = workspaceRepository.findTopWorkspacesByMemberCount(PageRequest.of(0,10));
+        Map<Long, Long> taskCounts = taskStatsService.getWorkspaceTotals(topWorkspaceRows.stream()
+            .map(row -> ((Workspace) row[0]).getId())
+            .collect(Collectors.toList()));
+
+        List<ActiveWorkspace> topWorkspaces = topWorkspaceRows
             .stream()
             .map(row -> {
                 Workspace w = (Workspace) row[0];
                 Long memberCount = (Long) row[1];
-                Long taskCount = taskRepository.countByWorkspaceId(w.getId());
 
                 return ActiveWorkspace.builder()
                     .id(w.getId())
                     .name(w.getName())
                     .ownerName(w.getOwner().getName())
                     .memberCount(memberCount)
-                    .taskCount(taskCount)
+                    .taskCount(taskCounts.getOrDefault(w.getId(), 0L))
                     .build();
             })
             .collect(Collectors.toList());
@@ -2,20 +2,25 @@ package com.teamhub.service;
 
 import com.teamhub.domain.project.ChecklistItem;
 import com.teamhub.domain.project.Task;
-import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.request.ChecklistItemRequest;
 import com.teamhub.dto.response.ChecklistItemResponse;
 import com.teamhub.enums.ErrorCode;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ChecklistItemRepository;
 import com.teamhub.repository.TaskRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,12 +31,13 @@ public class ChecklistService {
 
     private final TaskRepository taskRepository;
     private final ChecklistItemRepository checklistItemRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public ChecklistItemResponse addItem(Long userId, Long taskId, ChecklistItemRequest req) {
         Task task = findTaskById(taskId);
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
         int nextOrder = checklistItemRepository.countByTaskId(taskId).intValue();
 
@@ -46,7 +52,7 @@ public class ChecklistService {
 
     public List<ChecklistItemResponse> getItems(Long userId, Long taskId) {
         Task task = findTaskById(taskId);
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
         return checklistItemRepository.findAllByTaskIdOrderByDisplayOrderAsc(taskId).stream()
                 .map(ChecklistItemResponse::of)
@@ -56,7 +62,7 @@ public class ChecklistService {
     @Transactional
     public ChecklistItemResponse updateItem(Long userId, Long itemId, ChecklistItemRequest req) {
         ChecklistItem item = findItemById(itemId);
-        findMemberOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
 
         item.update(req.getContent());
         return ChecklistItemResponse.of(item);
@@ -65,7 +71,7 @@ public class ChecklistService {
     @Transactional
     public ChecklistItemResponse toggleItem(Long userId, Long itemId) {
         ChecklistItem item = findItemById(itemId);
-        findMemberOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
 
         item.toggleComplete();
         return ChecklistItemResponse.of(item);
@@ -74,20 +80,42 @@ public class ChecklistService {
     @Transactional
     public void deleteItem(Long userId, Long itemId) {
         ChecklistItem item = findItemById(itemId);
-        findMemberOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(item.getTask().getProject().getWorkspace().getId(), userId);
 
         checklistItemRepository.delete(item);
     }
 
+    /**
+     * 요청 순서대로 0부터 다시 매기고, 요청에 없는 항목은 기존 순서를 유지한 채 뒤에 붙인다.
+     * 항목 조회 1번 + JDBC 배치 UPDATE 1번 (rewriteBatchedStatements) 으로 항목 수와 무관하게 왕복 횟수 고정
+     */
     @Transactional
-    public void reorderItems(Long userId, Long itemId, List<Long> itemIds) {
-        Task task = findTaskById(itemId);
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+    public void reorderItems(Long userId, Long taskId, List<Long> itemIds) {
+        Task task = findTaskById(taskId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
-        for(int i = 0; i < itemIds.size(); i++) {
-            ChecklistItem item = findItemById(itemIds.get(i));
-            item.updateOrder(i);
+        List<Long> currentIds = checklistItemRepository.findIdsByTaskIdOrderByDisplayOrder(taskId);
+        Set<Long> requested = new LinkedHashSet<>(itemIds);
+        if (requested.size() != itemIds.size()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        // 다른 태스크의 항목이나 없는 항목이 섞여 있으면 거부
+        if (!new HashSet<>(currentIds).containsAll(requested)) {
+            throw new CustomException(ErrorCode.CHECKLIST_ITEM_NOT_FOUND);
         }
+
+        List<Long> ordered = new ArrayList<>(requested);
+        currentIds.stream()
+                .filter(id -> !requested.contains(id))
+                .forEach(ordered::add);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            args.add(new Object[]{i, now, ordered.get(i), taskId});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE checklist_items SET display_order = ?, updated_at = ? WHERE id = ? AND task_id = ?", args);
     }
 
     //helper methods
@@ -100,9 +128,4 @@ public class ChecklistService {
         return checklistItemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHECKLIST_ITEM_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
 }
@@ -3,19 +3,22 @@ package com.teamhub.service;
 import com.teamhub.domain.project.Comment;
 import com.teamhub.domain.project.Task;
 import com.teamhub.domain.user.User;
-import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.request.CommentRequest;
 import com.teamhub.dto.response.CommentResponse;
 import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.activity.ActivityType;
 import com.teamhub.enums.activity.TargetType;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.CommentRepository;
 import com.teamhub.repository.TaskRepository;
 import com.teamhub.repository.UserRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
+import com.teamhub.search.SearchDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,16 +34,17 @@ public class CommentService {
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final CommentRepository commentRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(Long userId, Long taskId, CommentRequest req) {
         Task task = findTaskById(taskId);
         Long workspaceId = task.getProject().getWorkspace().getId();
 
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         User author = findUserById(userId);
 
@@ -68,6 +72,7 @@ public class CommentService {
             notificationService.sendCommentNotification(task, author, req.getContent());
         }
 
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofComment(comment)));
         log.info("Comment created on task: {} by user: {}", taskId, userId);
 
         return CommentResponse.of(comment);
@@ -78,7 +83,7 @@ public class CommentService {
         Task task = findTaskById(taskId);
         Long workspaceId = task.getProject().getWorkspace().getId();
 
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         return commentRepository.findAllByTaskId(taskId)
                 .stream()
@@ -95,6 +100,7 @@ public class CommentService {
         }
 
         comment.updateContent(req.getContent());
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofComment(comment)));
 
         return CommentResponse.of(comment);
     }
@@ -104,14 +110,15 @@ public class CommentService {
         Comment comment = findCommentById(commentId);
         Long workspaceId = comment.getTask().getProject().getWorkspace().getId();
 
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         //본인 댓글이거나 관리자 이상만 삭제 가능
-        if(!comment.getAuthor().getId().equals(userId) && !member.canManageMembers()) {
+        if(!comment.getAuthor().getId().equals(userId) && !role.canManageMembers()) {
             throw new CustomException(ErrorCode.COMMENT_DELETE_DENIED);
         }
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.COMMENT, commentId));
         log.info("Comment deleted: {}", commentId);
     }
 
@@ -135,9 +142,4 @@ public class CommentService {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_NOT_FOUND));
-    }
 }
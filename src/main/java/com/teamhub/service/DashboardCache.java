@@ -0,0 +1,33 @@
+package com.teamhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.teamhub.dto.response.WorkspaceDashboardResponse;
+import com.teamhub.event.WorkspaceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 워크스페이스 대시보드 로컬 캐시
+ * 워크스페이스 변경 이벤트가 커밋된 뒤 해당 워크스페이스 항목을 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCache {
+
+    private final Cache<Long, WorkspaceDashboardResponse> workspaceDashboardCache;
+
+    public WorkspaceDashboardResponse get(Long workspaceId, Function<Long, WorkspaceDashboardResponse> loader) {
+        return workspaceDashboardCache.get(workspaceId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkspaceChanged(WorkspaceChangedEvent event) {
+        workspaceDashboardCache.invalidate(event.workspaceId());
+        log.debug("Dashboard cache evicted for workspace: {}", event.workspaceId());
+    }
+}
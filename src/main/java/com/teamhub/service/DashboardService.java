@@ -1,17 +1,15 @@
 package com.teamhub.service;
 
-import com.teamhub.domain.project.Project;
 import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.response.ActivityLogResponse;
 import com.teamhub.dto.response.TaskResponse;
 import com.teamhub.dto.response.WorkspaceDashboardResponse;
-import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.project.TaskStatus;
-import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ActivityLogRepository;
-import com.teamhub.repository.ProjectRepository;
+import com.teamhub.repository.ProjectTaskStatsRepository;
 import com.teamhub.repository.TaskRepository;
 import com.teamhub.repository.WorkspaceMemberRepository;
+import com.teamhub.repository.projection.WorkspaceTaskAggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -30,13 +28,19 @@ public class DashboardService {
     private final ActivityLogRepository activityLogRepository;
     private final TaskRepository taskRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
-    private final ProjectRepository projectRepository;
-
+    private final WorkspaceAccessService workspaceAccessService;
+    private final ProjectTaskStatsRepository projectTaskStatsRepository;
+    private final TaskStatsService taskStatsService;
+    private final DashboardCache dashboardCache;
 
     public WorkspaceDashboardResponse getWorkspaceDashboard(Long userId, Long workspaceId) {
         // 권한 확인
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+
+        return dashboardCache.get(workspaceId, this::buildDashboard);
+    }
 
+    private WorkspaceDashboardResponse buildDashboard(Long workspaceId) {
         return WorkspaceDashboardResponse.builder()
                 .taskSummary(getTaskSummary(workspaceId))
                 .projectProgresses(getProjectProgresses(workspaceId))
@@ -46,61 +50,37 @@ public class DashboardService {
                 .build();
     }
 
+    // 상태별 태스크 수는 카운터 테이블에서 조회
     private WorkspaceDashboardResponse.TaskSummary getTaskSummary(Long workspaceId) {
-        Long total = taskRepository.countByWorkspaceId(workspaceId);
-        Long todo = taskRepository.countByWorkspaceIdAndStatus(workspaceId, TaskStatus.TODO);
-        Long inProgress = taskRepository.countByWorkspaceIdAndStatus(workspaceId, TaskStatus.IN_PROGRESS);
-        Long review = taskRepository.countByWorkspaceIdAndStatus(workspaceId, TaskStatus.REVIEW);
-        Long done = taskRepository.countByWorkspaceIdAndStatus(workspaceId, TaskStatus.DONE);
+        Map<TaskStatus, Long> counts = taskStatsService.getWorkspaceCounts(workspaceId);
+
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        long done = counts.get(TaskStatus.DONE);
 
         Double completionRate = total > 0 ? (done * 100.0) / total : 0.0;
 
         return WorkspaceDashboardResponse.TaskSummary.builder()
                 .total(total)
-                .todo(todo)
-                .inProgress(inProgress)
-                .review(review)
+                .todo(counts.get(TaskStatus.TODO))
+                .inProgress(counts.get(TaskStatus.IN_PROGRESS))
+                .review(counts.get(TaskStatus.REVIEW))
                 .done(done)
                 .completionRate(Math.round(completionRate * 10) / 10.0)
                 .build();
     }
 
     private List<WorkspaceDashboardResponse.ProjectProgress> getProjectProgresses(Long workspaceId) {
-        List<Project> projects = projectRepository.findAllByWorkspaceId(workspaceId);
-
-        return projects.stream().map(project -> {
-            Long totalTasks = taskRepository.countByProjectId(project.getId());
-            Long completedTasks = taskRepository.countByProjectIdAndStatus(project.getId(), TaskStatus.DONE);
-            Double progressRate = totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0;
-
-            return WorkspaceDashboardResponse.ProjectProgress.builder()
-                    .projectId(project.getId())
-                    .projectName(project.getName())
-                    .totalTasks(totalTasks)
-                    .completedTasks(completedTasks)
-                    .progressRate(Math.round(progressRate * 10) / 10.0)
-                    .build();
-        }).collect(Collectors.toList());
+        return projectTaskStatsRepository.findProgressByWorkspaceId(workspaceId)
+                .stream()
+                .map(WorkspaceDashboardResponse.ProjectProgress::of)
+                .collect(Collectors.toList());
     }
 
     private List<WorkspaceDashboardResponse.MemberTaskSummary> getMemberTaskSummaries(Long workspaceId) {
         List<WorkspaceMember> members = workspaceMemberRepository.findAllByWorkspaceId(workspaceId);
 
-        // 멤버별 배정된 태스크 수
-        Map<Long, Long> assignedMap = taskRepository.countByWorkspaceIdGroupByAssignee(workspaceId)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
-
-        // 멤버별 완료된 태스크 수
-        Map<Long, Long> completedMap = taskRepository.countCompletedByWorkspaceIdGroupByAssignee(workspaceId)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
+        // 담당자 / 상태별 태스크 수는 한 번의 집계 쿼리로 계산
+        WorkspaceTaskAggregate aggregate = WorkspaceTaskAggregate.of(taskRepository.aggregateByWorkspaceId(workspaceId));
 
         return members.stream().map(member -> {
             Long memberId = member.getUser().getId();
@@ -108,8 +88,8 @@ public class DashboardService {
                     .userId(memberId)
                     .userName(member.getUser().getName())
                     .profileImage(member.getUser().getProfileImage())
-                    .assignedTasks(assignedMap.getOrDefault(memberId, 0L))
-                    .completedTasks(completedMap.getOrDefault(memberId, 0L))
+                    .assignedTasks(aggregate.countAssignedTo(memberId))
+                    .completedTasks(aggregate.countCompletedBy(memberId))
                     .build();
         }).collect(Collectors.toList());
     }
@@ -131,10 +111,4 @@ public class DashboardService {
                 .map(TaskResponse::of)
                 .collect(Collectors.toList());
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
-
 }
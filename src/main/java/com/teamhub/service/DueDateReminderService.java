@@ -0,0 +1,139 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.Notification;
+import com.teamhub.domain.project.Task;
+import com.teamhub.enums.notification.NotificationType;
+import com.teamhub.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 마감 임박 알림 배치
+ * (dueDate, id) keyset 으로 CHUNK_SIZE 개씩 담당자와 함께 읽고, 청크마다 알림을 JDBC 배치로 기록한 뒤 커밋한다.
+ * 한 번에 청크 하나만 메모리에 올리고 트랜잭션도 청크 단위로 짧게 유지한다.
+ */
+@Slf4j
+@Service
+public class DueDateReminderService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int DAYS_AHEAD = 3;
+
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter scannedCounter;
+    private final Counter sentCounter;
+    private final Counter chunkCounter;
+    private final Timer jobTimer;
+
+    private record ChunkResult(int size, int sent, LocalDate lastDueDate, Long lastId) {
+    }
+
+    public DueDateReminderService(TaskRepository taskRepository,
+                                  NotificationService notificationService,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.scannedCounter = Counter.builder("reminder.due_date.tasks.scanned").register(meterRegistry);
+        this.sentCounter = Counter.builder("reminder.due_date.notifications.sent").register(meterRegistry);
+        this.chunkCounter = Counter.builder("reminder.due_date.chunks").register(meterRegistry);
+        this.jobTimer = Timer.builder("reminder.due_date.duration").register(meterRegistry);
+    }
+
+    /**
+     * @return 보낸 알림 수
+     */
+    public int sendReminders() {
+        return jobTimer.record(() -> {
+            LocalDate today = LocalDate.now();
+            LocalDate endDate = today.plusDays(DAYS_AHEAD);
+
+            // 첫 청크는 (today, 0) 이후부터
+            LocalDate lastDueDate = today;
+            Long lastId = 0L;
+            int sent = 0;
+            int chunks = 0;
+
+            while (true) {
+                LocalDate fromDueDate = lastDueDate;
+                Long fromId = lastId;
+                ChunkResult result = transactionTemplate.execute(status -> processChunk(today, endDate, fromDueDate, fromId));
+                if (result == null || result.size() == 0) {
+                    break;
+                }
+
+                sent += result.sent();
+                chunks++;
+                chunkCounter.increment();
+                scannedCounter.increment(result.size());
+                sentCounter.increment(result.sent());
+                log.debug("Due date reminder chunk {} done. Tasks: {}, total sent: {}", chunks, result.size(), sent);
+
+                if (result.size() < CHUNK_SIZE) {
+                    break;
+                }
+                lastDueDate = result.lastDueDate();
+                lastId = result.lastId();
+            }
+            return sent;
+        });
+    }
+
+    private ChunkResult processChunk(LocalDate today, LocalDate endDate, LocalDate lastDueDate, Long lastId) {
+        List<Task> tasks = taskRepository.findDueChunkAfter(lastDueDate, lastId, endDate, PageRequest.of(0, CHUNK_SIZE));
+        if (tasks.isEmpty()) {
+            return new ChunkResult(0, 0, lastDueDate, lastId);
+        }
+
+        List<Notification> notifications = tasks.stream()
+                .map(task -> createNotification(task, today))
+                .toList();
+        int sent = notificationService.publishAll(notifications);
+
+        Task last = tasks.get(tasks.size() - 1);
+        return new ChunkResult(tasks.size(), sent, last.getDueDate(), last.getId());
+    }
+
+    // (태스크, 알림 날짜) 당 한 번만 발송
+    private static String dedupeKey(Task task, LocalDate reminderDate) {
+        return NotificationType.DUE_DATE_REMINDER.name() + ":" + task.getId() + ":" + reminderDate;
+    }
+
+    private Notification createNotification(Task task, LocalDate today) {
+        long daysUntilDue = ChronoUnit.DAYS.between(today, task.getDueDate());
+
+        String message;
+        if (daysUntilDue == 0) {
+            message = "'" + task.getTitle() + "' 태스크가 오늘 마감입니다!";
+        } else if (daysUntilDue == 1) {
+            message = "'" + task.getTitle() + "' 태스크가 내일 마감입니다.";
+        } else {
+            message = "'" + task.getTitle() + "' 태스크가 " + daysUntilDue + "일 후 마감입니다.";
+        }
+
+        return Notification.builder()
+                .type(NotificationType.DUE_DATE_REMINDER)
+                .title("마감 임박 알림")
+                .message(message)
+                .recipient(task.getAssignee())
+                .targetType("TASK")
+                .targetId(task.getId())
+                .dedupeKey(dedupeKey(task, today))
+                .build();
+    }
+}
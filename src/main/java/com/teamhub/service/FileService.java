@@ -4,17 +4,20 @@ import com.teamhub.config.FileProperties;
 import com.teamhub.domain.file.FileAttachment;
 import com.teamhub.domain.project.Task;
 import com.teamhub.domain.user.User;
-import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.response.FileResponse;
 import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.FileAttachmentRepository;
 import com.teamhub.repository.TaskRepository;
 import com.teamhub.repository.UserRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
+import com.teamhub.search.SearchDocument;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
@@ -40,7 +43,8 @@ public class FileService {
     private final FileAttachmentRepository fileAttachmentRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Path uploadPath;
 
@@ -59,9 +63,9 @@ public class FileService {
         Task task = findTaskById(taskId);
         Long workspaceId = task.getProject().getWorkspace().getId();
 
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        if(!member.canEditTasks()) {
+        if(!role.canEditTasks()) {
             throw new CustomException(ErrorCode.TASK_UPDATE_DENIED);
         }
 
@@ -87,6 +91,7 @@ public class FileService {
                     .build();
 
             fileAttachmentRepository.save(attachment);
+            eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofFile(attachment)));
 
             log.info("File uploaded: {} for task: {}", originalName, taskId);
 
@@ -103,7 +108,7 @@ public class FileService {
         Task task = findTaskById(taskId);
         Long workspaceId = task.getProject().getWorkspace().getId();
 
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         return fileAttachmentRepository.findAllByTaskId(taskId)
                 .stream()
@@ -116,7 +121,7 @@ public class FileService {
         FileAttachment file = findFileById(fileId);
         Long workspaceId = file.getTask().getProject().getWorkspace().getId();
 
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         try {
             Path filePath = Paths.get(file.getFilePath());
@@ -137,10 +142,10 @@ public class FileService {
         FileAttachment file = findFileById(fileId);
         Long workspaceId = file.getTask().getProject().getWorkspace().getId();
 
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         //본인이 업로드했거나 관리자 이상만 삭제 가능
-        if(!file.getUploader().getId().equals(userId) && !member.canManageMembers()) {
+        if(!file.getUploader().getId().equals(userId) && !role.canManageMembers()) {
             throw new CustomException(ErrorCode.TASK_DELETE_DENIED);
         }
 
@@ -152,6 +157,7 @@ public class FileService {
         }
 
         fileAttachmentRepository.delete(file);
+        eventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.FILE, fileId));
         log.info("File deleted: {}", fileId);
     }
 
@@ -196,9 +202,4 @@ public class FileService {
         return fileAttachmentRepository.findById(fileId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
 }
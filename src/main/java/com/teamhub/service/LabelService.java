@@ -3,14 +3,13 @@ package com.teamhub.service;
 import com.teamhub.domain.project.Label;
 import com.teamhub.domain.project.Task;
 import com.teamhub.domain.workspace.Workspace;
-import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.request.LabelRequest;
 import com.teamhub.dto.response.LabelResponse;
 import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.workspace.WorkspaceRole;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.LabelRepository;
 import com.teamhub.repository.TaskRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
 import com.teamhub.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,14 +27,14 @@ public class LabelService {
 
     private final LabelRepository labelRepository;
     private final WorkspaceRepository workspaceRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
     private final TaskRepository taskRepository;
 
     @Transactional
     public LabelResponse createLabel(Long userId, Long workspaceId, LabelRequest request) {
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        if (!member.canManageProjects()) {
+        if (!role.canManageProjects()) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
@@ -58,7 +57,7 @@ public class LabelService {
     }
 
     public List<LabelResponse> getLabels(Long userId, Long workspaceId) {
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         return labelRepository.findAllByWorkspaceId(workspaceId).stream()
                 .map(LabelResponse::of)
@@ -68,9 +67,9 @@ public class LabelService {
     @Transactional
     public LabelResponse updateLabel(Long userId, Long labelId, LabelRequest request) {
         Label label = findLabelById(labelId);
-        WorkspaceMember member = findMemberOrThrow(label.getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(label.getWorkspace().getId(), userId);
 
-        if (!member.canManageProjects()) {
+        if (!role.canManageProjects()) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
@@ -81,9 +80,9 @@ public class LabelService {
     @Transactional
     public void deleteLabel(Long userId, Long labelId) {
         Label label = findLabelById(labelId);
-        WorkspaceMember member = findMemberOrThrow(label.getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(label.getWorkspace().getId(), userId);
 
-        if (!member.canManageProjects()) {
+        if (!role.canManageProjects()) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
@@ -96,7 +95,7 @@ public class LabelService {
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
         Label label = findLabelById(labelId);
 
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
         task.addLabel(label);
     }
@@ -107,7 +106,7 @@ public class LabelService {
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
         Label label = findLabelById(labelId);
 
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
         task.removeLabel(label);
     }
@@ -117,9 +116,4 @@ public class LabelService {
         return labelRepository.findById(labelId)
                 .orElseThrow(() -> new CustomException(ErrorCode.LABEL_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
 }
@@ -0,0 +1,93 @@
+package com.teamhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.WorkspaceMembershipChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 다른 인스턴스의 멤버 역할 캐시 무효화 (membership_invalidations 테이블)
+ * 멤버 변경 트랜잭션 안에서 (workspaceId, userId) 행을 남기고, 모든 인스턴스가 POLL_INTERVAL 마다 새 행을 읽어 로컬 캐시에서 제거한다.
+ * 요청마다 DB 를 확인하지 않고도 다른 인스턴스의 초대 / 제거가 몇 초 안에 권한 확인에 반영된다.
+ * (로컬 인스턴스는 WorkspaceAccessService 가 커밋 직후 바로 제거)
+ */
+@Slf4j
+@Service
+public class MembershipCacheInvalidator {
+
+    static final String TABLE_NAME = "membership_invalidations";
+
+    // 먼저 INSERT 한 트랜잭션이 늦게 커밋될 수 있으므로 지난 조회 시각보다 이만큼 앞부터 다시 읽음 (중복 제거는 무해)
+    private static final int LOOKBACK_SECONDS = 30;
+    private static final int RETENTION_HOURS = 1;
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<WorkspaceAccessService.MembershipKey, WorkspaceRole> workspaceMembershipCache;
+
+    // 마지막으로 조회한 DB 시각 (폴러 스레드에서만 사용)
+    private Timestamp lastPolledAt;
+
+    public MembershipCacheInvalidator(JdbcTemplate jdbcTemplate,
+                                      Cache<WorkspaceAccessService.MembershipKey, WorkspaceRole> workspaceMembershipCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.workspaceMembershipCache = workspaceMembershipCache;
+    }
+
+    @PostConstruct
+    void createTableIfMissing() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                "workspace_id BIGINT NOT NULL, " +
+                "user_id BIGINT NOT NULL, " +
+                "created_at TIMESTAMP(3) NOT NULL, " +
+                "INDEX idx_membership_invalidations_created_at (created_at))");
+        // 기동 시 캐시는 비어 있으므로 이전 변경은 볼 필요 없음
+        lastPolledAt = currentDbTime();
+    }
+
+    // 멤버 변경과 같은 트랜잭션에서 기록 (롤백되면 기록도 없음)
+    @EventListener
+    public void onMembershipChanged(WorkspaceMembershipChangedEvent event) {
+        jdbcTemplate.update("INSERT INTO " + TABLE_NAME + " (workspace_id, user_id, created_at) VALUES (?, ?, NOW(3))",
+                event.workspaceId(), event.userId());
+    }
+
+    @Scheduled(fixedDelay = 2_000)
+    public void poll() {
+        try {
+            Timestamp polledAt = currentDbTime();
+            List<WorkspaceAccessService.MembershipKey> keys = jdbcTemplate.query(
+                    "SELECT workspace_id, user_id FROM " + TABLE_NAME + " " +
+                            "WHERE created_at >= ? - INTERVAL " + LOOKBACK_SECONDS + " SECOND",
+                    (rs, rowNum) -> new WorkspaceAccessService.MembershipKey(rs.getLong(1), rs.getLong(2)),
+                    lastPolledAt);
+            workspaceMembershipCache.invalidateAll(keys);
+            lastPolledAt = polledAt;
+        } catch (RuntimeException e) {
+            // 다음 조회에서 같은 구간을 다시 읽음
+            log.warn("Failed to poll membership invalidations: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void removeExpired() {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM " + TABLE_NAME + " " +
+                    "WHERE created_at < NOW(3) - INTERVAL " + RETENTION_HOURS + " HOUR LIMIT " + BATCH_SIZE);
+        } while (deleted == BATCH_SIZE);
+    }
+
+    private Timestamp currentDbTime() {
+        return jdbcTemplate.queryForObject("SELECT NOW(3)", Timestamp.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.NotificationCounter;
+import com.teamhub.event.UnreadCountChangedEvent;
+import com.teamhub.repository.NotificationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 안 읽은 알림 수 카운터
+ * 조회 시 COUNT 대신 notification_counters 한 행을 읽고, 값이 바뀌면 커밋 후 WebSocket 으로 밀어준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCounterService {
+
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 생성 트랜잭션 안에서 호출 (전송은 아웃박스 릴레이가 알림과 함께)
+     * 보통은 카운터 행 UPDATE 한 번이고, 행이 없을 때만 안 읽은 알림을 세어 생성한다.
+     */
+    public void increment(Long userId) {
+        if (notificationCounterRepository.increment(userId, 1) == 0) {
+            initializeOrIncrement(userId, 1);
+        }
+    }
+
+    // 배치 작업용 - 사용자별 증가량을 JDBC 배치 UPDATE 한 번으로 반영, 행이 없는 사용자만 따로 생성
+    public void incrementAll(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = List.copyOf(deltas.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE notification_counters SET unread_count = unread_count + ? WHERE user_id = ?",
+                entries.stream().map(e -> new Object[]{e.getValue(), e.getKey()}).toList());
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] == 0) {
+                initializeOrIncrement(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        }
+    }
+
+    // 생성 시 COUNT 에 방금 저장한 알림이 포함된다. 동시에 다른 트랜잭션이 먼저 만들었으면 (INSERT IGNORE 0건) 증가만
+    private void initializeOrIncrement(Long userId, long delta) {
+        if (notificationCounterRepository.initialize(userId) == 0) {
+            notificationCounterRepository.increment(userId, delta);
+        }
+    }
+
+    public void decrement(Long userId) {
+        notificationCounterRepository.decrement(userId);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(userId));
+    }
+
+    public void reset(Long userId) {
+        notificationCounterRepository.reset(userId);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(userId));
+    }
+
+    @Transactional
+    public long getUnreadCount(Long userId) {
+        return notificationCounterRepository.findById(userId)
+                .map(NotificationCounter::getUnreadCount)
+                .orElseGet(() -> {
+                    notificationCounterRepository.initialize(userId);
+                    return notificationCounterRepository.findById(userId)
+                            .map(NotificationCounter::getUnreadCount)
+                            .orElse(0L);
+                });
+    }
+
+    /**
+     * 여러 사용자의 현재 값을 전송 (카운터가 없는 사용자는 다음 조회 때 생성되므로 건너뜀)
+     */
+    @Transactional(readOnly = true)
+    public void pushUnreadCounts(Collection<Long> userIds) {
+        for (NotificationCounter counter : notificationCounterRepository.findAllByUserIdIn(userIds)) {
+            send(counter.getUserId(), counter.getUnreadCount());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        notificationCounterRepository.findById(event.userId())
+                .ifPresent(counter -> send(counter.getUserId(), counter.getUnreadCount()));
+    }
+
+    @Transactional
+    public int reconcile() {
+        return notificationCounterRepository.reconcile();
+    }
+
+    private void send(Long userId, long unreadCount) {
+        try {
+            webSocketNotificationService.sendUnreadCount(userId, unreadCount);
+        } catch (Exception e) {
+            log.warn("Failed to send unread count: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.Notification;
+import com.teamhub.domain.notification.NotificationOutbox;
+import com.teamhub.dto.response.NotificationResponse;
+import com.teamhub.event.NotificationCreatedEvent;
+import com.teamhub.repository.NotificationOutboxRepository;
+import com.teamhub.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 릴레이
+ * 알림 트랜잭션이 커밋된 뒤 별도 스레드에서 아웃박스 행을 배치로 읽어 WebSocket 으로 전송하고 삭제한다.
+ * 롤백된 알림은 아웃박스 행도 없으므로 전송되지 않는다.
+ * 전송 직후 삭제 커밋 전에 죽으면 다음 sweep 에서 다시 전송될 수 있으므로 클라이언트는 알림 id 로 중복을 거른다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxRelay {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final NotificationCounterService notificationCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 여러 커밋이 몰려도 릴레이 작업은 하나만 대기
+    private final AtomicBoolean relayRequested = new AtomicBoolean(false);
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationRepository notificationRepository,
+                                   WebSocketNotificationService webSocketNotificationService,
+                                   NotificationCounterService notificationCounterService,
+                                   PlatformTransactionManager transactionManager) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.notificationCounterService = notificationCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        requestRelay();
+    }
+
+    // 릴레이 중 장애 / 재시작으로 남은 행 재전송
+    @Scheduled(fixedDelay = 10_000)
+    public void sweep() {
+        requestRelay();
+    }
+
+    private void requestRelay() {
+        if (relayRequested.compareAndSet(false, true)) {
+            executor.execute(this::relayAll);
+        }
+    }
+
+    private void relayAll() {
+        relayRequested.set(false);
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.error("Notification outbox relay failed", e);
+        }
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<NotificationOutbox> rows = notificationOutboxRepository.lockNextBatch(BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Notification> notifications = notificationRepository.findAllWithSenderByIdIn(
+                            rows.stream().map(NotificationOutbox::getNotificationId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+            for (NotificationOutbox row : rows) {
+                Notification notification = notifications.get(row.getNotificationId());
+                if (notification != null) {
+                    send(row.getRecipientId(), NotificationResponse.of(notification));
+                }
+            }
+
+            // 새 알림을 받은 사용자에게 안 읽은 수도 함께 전송
+            notificationCounterService.pushUnreadCounts(
+                    rows.stream().map(NotificationOutbox::getRecipientId).collect(Collectors.toSet()));
+
+            notificationOutboxRepository.deleteAllInBatch(rows);
+            return rows.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    private void send(Long recipientId, NotificationResponse notification) {
+        try {
+            webSocketNotificationService.sendToUser(recipientId, notification);
+        } catch (Exception e) {
+            // 실시간 전송 실패해도 DB에는 저장되어 있으므로 예외 무시
+            log.warn("Failed to send real-time notification: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
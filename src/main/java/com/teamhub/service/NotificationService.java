@@ -1,20 +1,42 @@
 package com.teamhub.service;
 
+import com.teamhub.config.NotificationRetentionProperties;
 import com.teamhub.domain.notification.Notification;
+import com.teamhub.domain.notification.NotificationOutbox;
 import com.teamhub.domain.project.Task;
 import com.teamhub.domain.user.User;
+import com.teamhub.dto.response.CursorPageResponse;
 import com.teamhub.dto.response.NotificationResponse;
 import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.notification.NotificationType;
+import com.teamhub.event.NotificationCreatedEvent;
 import com.teamhub.exception.CustomException;
+import com.teamhub.repository.NotificationOutboxRepository;
 import com.teamhub.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,8 +44,111 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int LIST_LIMIT = 100;
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (type, title, message, recipient_id, sender_id, target_type, target_id, dedupe_key, " +
+                    "is_read, created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, false)";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO notification_outbox (notification_id, recipient_id, created_at) VALUES (?, ?, ?)";
+
     private final NotificationRepository notificationRepository;
-    private final WebSocketNotificationService webSocketNotificationService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationRetentionProperties retentionProperties;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 저장 + 같은 트랜잭션에 아웃박스 기록. 실시간 전송은 커밋 후 NotificationOutboxRelay 가 담당
+     */
+    @Transactional
+    public Notification publish(Notification notification) {
+        Notification saved = notificationRepository.save(notification);
+
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .notificationId(saved.getId())
+                .recipientId(saved.getRecipient().getId())
+                .createdAt(LocalDateTime.now())
+                .build());
+        notificationCounterService.increment(saved.getRecipient().getId());
+        eventPublisher.publishEvent(new NotificationCreatedEvent(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * 배치 작업용 - 알림 / 아웃박스 / 카운터를 각각 JDBC 배치 한 번으로 기록 (IDENTITY 라 JPA 는 행마다 INSERT)
+     * dedupeKey 가 이미 있는 알림은 건너뛴다 (같은 작업이 다시 실행돼도 중복 발송하지 않음).
+     */
+    @Transactional
+    public int publishAll(List<Notification> candidates) {
+        List<Notification> notifications = excludeDuplicates(candidates);
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    ps.setString(1, notification.getType().name());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getMessage());
+                    ps.setLong(4, notification.getRecipient().getId());
+                    ps.setObject(5, notification.getSender() != null ? notification.getSender().getId() : null);
+                    ps.setString(6, notification.getTargetType());
+                    ps.setObject(7, notification.getTargetId());
+                    ps.setString(8, notification.getDedupeKey());
+                    ps.setTimestamp(9, createdAt);
+                    ps.setTimestamp(10, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> generated = new ArrayList<>(notifications.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+                return generated;
+            }
+        });
+
+        List<Object[]> outboxRows = new ArrayList<>(notifications.size());
+        Map<Long, Long> unreadDeltas = new HashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Long recipientId = notifications.get(i).getRecipient().getId();
+            outboxRows.add(new Object[]{ids.get(i), recipientId, createdAt});
+            unreadDeltas.merge(recipientId, 1L, Long::sum);
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, outboxRows);
+        notificationCounterService.incrementAll(unreadDeltas);
+
+        // 릴레이는 아웃박스를 배치로 읽으므로 이벤트는 한 번만
+        eventPublisher.publishEvent(new NotificationCreatedEvent(ids.get(ids.size() - 1)));
+        return ids.size();
+    }
+
+    private List<Notification> excludeDuplicates(List<Notification> candidates) {
+        Set<String> keys = candidates.stream()
+                .map(Notification::getDedupeKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> existing = new HashSet<>(notificationRepository.findExistingDedupeKeys(keys));
+        Set<String> seen = new HashSet<>();
+        return candidates.stream()
+                .filter(n -> n.getDedupeKey() == null
+                        || (!existing.contains(n.getDedupeKey()) && seen.add(n.getDedupeKey())))
+                .toList();
+    }
 
     @Transactional
     public void sendTaskAssignedNotification(Task task, User assigner) {
@@ -39,12 +164,8 @@ public class NotificationService {
                 .targetId(task.getId())
                 .build();
 
-        Notification saved = notificationRepository.save(notification);
-        notificationRepository.save(notification);
-        log.info("Task assigned notification sent to user" + task.getAssignee().getId());
-
-        // 실시간 알림 전송
-        sendRealTimeNotification(saved);
+        publish(notification);
+        log.info("Task assigned notification sent to user: {}", task.getAssignee().getId());
     }
 
     @Transactional
@@ -53,18 +174,15 @@ public class NotificationService {
         if (task.getCreatedBy() != null && !task.getCreatedBy().getId().equals(changer.getId())) {
             Notification notification = Notification.builder()
                     .type(NotificationType.TASK_STATUS_CHANGED)
-                    .title(changer.getName() + "님이 '" + task.getTitle() + "' 상태를 " + newStatus + "로 변경했습니다.")
+                    .title("테스크 상태가 변경되었습니다")
+                    .message(changer.getName() + "님이 '" + task.getTitle() + "' 상태를 " + newStatus + "로 변경했습니다.")
                     .recipient(task.getCreatedBy())
                     .sender(changer)
                     .targetType("TASK")
                     .targetId(task.getId())
                     .build();
 
-            Notification saved = notificationRepository.save(notification);
-            notificationRepository.save(notification);
-
-            // 실시간 알림 전송
-            sendRealTimeNotification(saved);
+            publish(notification);
         }
     }
 
@@ -85,7 +203,7 @@ public class NotificationService {
                 .targetId(task.getId())
                 .build();
 
-        notificationRepository.save(notification);
+        publish(notification);
         log.info("Comment notification sent to user: {}", task.getAssignee().getId());
     }
 
@@ -100,13 +218,14 @@ public class NotificationService {
                 .targetId(workspaceId)
                 .build();
 
-        notificationRepository.save(notification);
+        publish(notification);
         log.info("Member invite notification send to user: {}", invitee.getId());
     }
 
+    // 목록 API 는 최신 LIST_LIMIT 개만 반환 (이전 알림은 /inbox 커서 페이징)
     @Transactional(readOnly = true)
     public List<NotificationResponse> getNotifications(Long userId) {
-        return notificationRepository.findByRecipientId(userId)
+        return notificationRepository.findInboxFirstPage(userId, PageRequest.of(0, LIST_LIMIT))
                 .stream()
                 .map(NotificationResponse::of)
                 .collect(Collectors.toList());
@@ -114,46 +233,83 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public List<NotificationResponse> getUnreadNotifications(Long userId) {
-        return notificationRepository.findUnreadByRecipientId(userId)
+        return notificationRepository.findUnreadInboxFirstPage(userId, PageRequest.of(0, LIST_LIMIT))
                 .stream()
                 .map(NotificationResponse::of)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> getInbox(Long userId, boolean unreadOnly, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Notification> rows;
+
+        if (cursor == null || cursor.isBlank()) {
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadInboxFirstPage(userId, limit)
+                    : notificationRepository.findInboxFirstPage(userId, limit);
+        } else {
+            String[] key = CursorPageResponse.decodeCursor(cursor, 2);
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(key[0]);
+                id = Long.valueOf(key[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadInboxPageBefore(userId, createdAt, id, limit)
+                    : notificationRepository.findInboxPageBefore(userId, createdAt, id, limit);
+        }
+
+        return CursorPageResponse.of(rows, size, NotificationResponse::of,
+                notification -> new Object[]{notification.getCreatedAt(), notification.getId()});
+    }
+
+    /**
+     * 보관 기간이 지난 읽은 알림을 batch-size 개씩 삭제 (배치마다 커밋해 락을 짧게 유지)
+     */
+    public int purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retentionProperties.getReadMaxAge());
+        int batchSize = retentionProperties.getBatchSize();
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = notificationRepository.deleteReadBefore(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countByRecipientIdAndIsReadFalse(userId);
+        return notificationCounterService.getUnreadCount(userId);
     }
 
+    @Transactional
     public void markAsRead(Long userId, Long notificationId) {
+        // 같은 알림에 대한 동시 요청이 둘 다 차감하지 않도록 조건부 UPDATE 가 바꾼 경우에만 차감
+        if (notificationRepository.markAsRead(notificationId, userId) == 1) {
+            notificationCounterService.decrement(userId);
+            return;
+        }
+
+        // 이미 읽은 알림이면 그대로, 없거나 다른 사용자의 알림이면 거부
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_ACCESS_DENIED));
 
         if(!notification.getRecipient().getId().equals(userId)) {
             throw new CustomException(ErrorCode.NOTIFICATION_ACCESS_DENIED);
         }
-
-        notification.markAsRead();
     }
 
     @Transactional
     public int markAllAsRead(Long userId) {
         int updateCount = notificationRepository.markAllAsRead(userId);
+        notificationCounterService.reset(userId);
         log.info("All notifications marked as read for user: {}", userId);
         return updateCount;
     }
-
-    // 실시간 알림 전송 헬퍼 메서드
-    private void sendRealTimeNotification(Notification notification) {
-        try {
-            webSocketNotificationService.sendToUser(
-                    notification.getRecipient().getId(),
-                    NotificationResponse.of(notification)
-            );
-        } catch (Exception e) {
-            log.warn("Failed to send real-time notification: {}", e.getMessage());
-            // 실시간 전송 실패해도 DB에는 저장되어 있으므로 예외 무시
-        }
-    }
-
 }
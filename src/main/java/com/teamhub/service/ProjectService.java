@@ -3,23 +3,25 @@ package com.teamhub.service;
 
 import com.teamhub.domain.project.Project;
 import com.teamhub.domain.workspace.Workspace;
-import com.teamhub.domain.workspace.WorkspaceMember;
 import com.teamhub.dto.request.ProjectRequest;
 import com.teamhub.dto.response.ProjectResponse;
 import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
+import com.teamhub.event.WorkspaceChangedEvent;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ProjectRepository;
-import com.teamhub.repository.TaskRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
 import com.teamhub.repository.WorkspaceRepository;
+import com.teamhub.search.SearchDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,14 +30,15 @@ public class ProjectService {
 
     private final WorkspaceRepository workspaceRepository;
     private final ProjectRepository projectRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
-    private final TaskRepository taskRepository;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final TaskStatsService taskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProjectResponse createProject(Long userId, Long workspaceId, ProjectRequest request) {
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        if(!member.canManageProjects()) {
+        if(!role.canManageProjects()) {
             throw new CustomException(ErrorCode.PROJECT_CREATE_DENIED);
         }
 
@@ -48,6 +51,8 @@ public class ProjectService {
                 .build();
 
         projectRepository.save(project);
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofProject(project)));
 
         log.info("Project created: {} in workspace: {}", project.getName(), workspaceId);
 
@@ -56,33 +61,30 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getProjects(Long userId, Long workspaceId) {
-        findMemberOrThrow(workspaceId, userId);
-
-        return projectRepository.findAllByWorkspaceId(workspaceId)
-                .stream()
-                .map(project -> {
-                    long taskCount = taskRepository.countByProjectIdAndStatus(project.getId(), null);
-                    return ProjectResponse.of(project, (long) project.getTasks().size());
-                })
-                .collect(Collectors.toList());
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+
+        // 태스크 수까지 한 번의 쿼리로 조회
+        return projectRepository.searchProjects(workspaceId, null);
     }
 
     @Transactional(readOnly = true)
     public ProjectResponse getProject(Long userId, Long projectId) {
         Project project = findProjectById(projectId);
-        findMemberOrThrow(project.getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
         return ProjectResponse.of(project, (long) project.getTasks().size());
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public ProjectResponse updateProject(Long userId, Long projectId, ProjectRequest request) {
         Project project = findProjectById(projectId);
-        WorkspaceMember member = findMemberOrThrow(project.getWorkspace().getId(),  userId);
-        if (!member.canManageProjects()) {
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(),  userId);
+        if (!role.canManageProjects()) {
             throw new CustomException(ErrorCode.PROJECT_UPDATE_DENIED);
         }
 
         project.updateInfo(request.getName(), request.getDescription());
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(project.getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofProject(project)));
 
         return ProjectResponse.of(project, (long)project.getTasks().size());
     }
@@ -90,13 +92,16 @@ public class ProjectService {
     @Transactional
     public void deleteProject(Long userId, Long projectId) {
         Project project = findProjectById(projectId);
-        WorkspaceMember member = findMemberOrThrow(project.getWorkspace().getId(),  userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(),  userId);
 
-        if(!member.canManageProjects()) {
+        if(!role.canManageProjects()) {
             throw new CustomException(ErrorCode.PROJECT_DELETE_DENIED);
         }
 
         project.delete();
+        taskStatsService.projectDeleted(project);
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(project.getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.PROJECT, projectId));
 
         log.info("Project soft deleted: {}", projectId);
     }
@@ -111,9 +116,4 @@ public class ProjectService {
         return projectRepository.findById(projectId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
 }
@@ -0,0 +1,130 @@
+package com.teamhub.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 DB 잠금 (scheduler_locks 테이블)
+ * 잠금은 LEASE 동안 유효하고 실행 중에는 주기적으로 연장하므로, 실행 노드가 죽으면 LEASE 후 다른 노드가 가져갈 수 있다.
+ * 시각 비교는 모두 DB 시간 (NOW(3)) 기준이라 노드 간 시계 차이의 영향을 받지 않는다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    static final String TABLE_NAME = "scheduler_locks";
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration RENEW_INTERVAL = Duration.ofSeconds(40);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // 스케줄 작업 / 기동 시 작업 (ApplicationReadyEvent) 보다 먼저 테이블 생성
+    @PostConstruct
+    void createTableIfMissing() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                "name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+                "locked_until TIMESTAMP(3) NOT NULL, " +
+                "locked_at TIMESTAMP(3) NOT NULL, " +
+                "locked_by VARCHAR(255) NOT NULL)");
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 job 을 실행한다.
+     *
+     * @param lockAtLeastFor 작업이 빨리 끝나도 이 시간 동안은 잠금 유지 (cron 이 조금 늦게 도는 다른 노드의 재실행 방지)
+     * @return 실행했으면 true, 다른 노드가 실행 중이면 false
+     */
+    public boolean runExclusively(String name, Duration lockAtLeastFor, Runnable job) {
+        if (!tryAcquire(name)) {
+            log.info("Scheduler lock '{}' is held by another node. Skipping", name);
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(name),
+                RENEW_INTERVAL.toMillis(), RENEW_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            job.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            release(name, Math.max(0, lockAtLeastFor.toMillis() - elapsedMillis));
+        }
+    }
+
+    private boolean tryAcquire(String name) {
+        jdbcTemplate.update("INSERT IGNORE INTO " + TABLE_NAME + " (name, locked_until, locked_at, locked_by) " +
+                "VALUES (?, NOW(3), NOW(3), '')", name);
+
+        int updated = jdbcTemplate.update("UPDATE " + TABLE_NAME + " " +
+                        "SET locked_until = NOW(3) + INTERVAL ? MICROSECOND, locked_at = NOW(3), locked_by = ? " +
+                        "WHERE name = ? AND locked_until <= NOW(3)",
+                LEASE.toNanos() / 1000, nodeId, name);
+        return updated == 1;
+    }
+
+    private void renew(String name) {
+        try {
+            int updated = jdbcTemplate.update("UPDATE " + TABLE_NAME + " " +
+                            "SET locked_until = NOW(3) + INTERVAL ? MICROSECOND " +
+                            "WHERE name = ? AND locked_by = ? AND locked_until > NOW(3)",
+                    LEASE.toNanos() / 1000, name, nodeId);
+            if (updated == 0) {
+                log.error("Scheduler lock '{}' was lost while the job is still running", name);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew scheduler lock '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void release(String name, long holdMillis) {
+        try {
+            jdbcTemplate.update("UPDATE " + TABLE_NAME + " " +
+                            "SET locked_until = NOW(3) + INTERVAL ? MICROSECOND " +
+                            "WHERE name = ? AND locked_by = ?",
+                    holdMillis * 1000, name, nodeId);
+        } catch (RuntimeException e) {
+            // 해제하지 못해도 LEASE 가 지나면 다른 노드가 가져갈 수 있음
+            log.warn("Failed to release scheduler lock '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+}
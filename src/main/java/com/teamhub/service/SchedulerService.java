@@ -1,96 +1,97 @@
 package com.teamhub.service;
 
-import com.teamhub.domain.project.Task;
-import com.teamhub.domain.user.User;
-import com.teamhub.domain.notification.Notification;
-import com.teamhub.enums.notification.NotificationType;
-import com.teamhub.repository.NotificationRepository;
-import com.teamhub.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.List;
+import java.time.Duration;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SchedulerService {
 
-    private final TaskRepository taskRepository;
-    private final NotificationRepository notificationRepository;
-    private final WebSocketNotificationService webSocketNotificationService;
+    // 노드마다 cron 이 몇 초씩 어긋나도 같은 작업이 다시 실행되지 않도록 최소 잠금 시간
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+    private final SchedulerLockService schedulerLockService;
+    private final DueDateReminderService dueDateReminderService;
+    private final WeeklySummaryService weeklySummaryService;
+    private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final NotificationCounterService notificationCounterService;
 
     /**
      * 매일 오전 9시에 마감 임박 태스크 알림 발송
      * cron: 초 분 시 일 월 요일
      */
     @Scheduled(cron = "0 0 9 * * *")
-    @Transactional
     public void sendDueDateReminders() {
-        log.info("=== Starting due date reminder job ===");
-
-        LocalDate today = LocalDate.now();
-        LocalDate threeDaysLater = today.plusDays(3);
+        schedulerLockService.runExclusively("dueDateReminders", LOCK_AT_LEAST_FOR, () -> {
+            log.info("=== Starting due date reminder job ===");
+            int sentCount = dueDateReminderService.sendReminders();
+            log.info("=== Due date reminder job completed. Sent: {} notifications ===", sentCount);
+        });
+    }
 
-        // 3일 이내 마감인 태스크 조회
-        List<Task> upcomingTasks = taskRepository.findTasksDueBetween(today, threeDaysLater);
+    /**
+     * 매일 새벽 4시에 태스크 카운터 재집계 (증분 갱신 오차 보정)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileTaskStats() {
+        schedulerLockService.runExclusively("reconcileTaskStats", LOCK_AT_LEAST_FOR, () -> {
+            log.info("=== Starting task stats reconciliation job ===");
+            int drift = taskStatsService.reconcile();
+            log.info("=== Task stats reconciliation job completed. Drift rows: {} ===", drift);
+        });
+    }
 
-        int sentCount = 0;
-        for (Task task : upcomingTasks) {
-            if (task.getAssignee() != null) {
-                sendDueDateNotification(task);
-                sentCount++;
+    /**
+     * 첫 배포처럼 카운터 테이블이 비어 있으면 기동 직후 한 노드에서만 재집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileTaskStatsOnStartup() {
+        schedulerLockService.runExclusively("reconcileTaskStats", LOCK_AT_LEAST_FOR, () -> {
+            if (taskStatsService.reconcileIfEmpty()) {
+                log.info("=== Task stats initialized on startup ===");
             }
-        }
-
-        log.info("=== Due date reminder job completed. Sent: {} notifications ===", sentCount);
+        });
     }
 
-    private void sendDueDateNotification(Task task) {
-        User assignee = task.getAssignee();
-        long daysUntilDue = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), task.getDueDate());
-
-        String message;
-        if (daysUntilDue == 0) {
-            message = "'" + task.getTitle() + "' 태스크가 오늘 마감입니다!";
-        } else if (daysUntilDue == 1) {
-            message = "'" + task.getTitle() + "' 태스크가 내일 마감입니다.";
-        } else {
-            message = "'" + task.getTitle() + "' 태스크가 " + daysUntilDue + "일 후 마감입니다.";
-        }
-
-        Notification notification = Notification.builder()
-                .type(NotificationType.DUE_DATE_REMINDER)
-                .title("마감 임박 알림")
-                .message(message)
-                .recipient(assignee)
-                .targetType("TASK")
-                .targetId(task.getId())
-                .build();
-
-        notificationRepository.save(notification);
+    /**
+     * 매일 새벽 4시 30분에 안 읽은 알림 카운터 재집계
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileNotificationCounters() {
+        schedulerLockService.runExclusively("reconcileNotificationCounters", LOCK_AT_LEAST_FOR, () -> {
+            int drift = notificationCounterService.reconcile();
+            log.info("=== Notification counter reconciliation completed. Drift rows: {} ===", drift);
+        });
+    }
 
-        // 실시간 알림도 전송
-        try {
-            webSocketNotificationService.sendToUser(
-                    assignee.getId(),
-                    com.teamhub.dto.response.NotificationResponse.of(notification)
-            );
-        } catch (Exception e) {
-            log.warn("Failed to send real-time due date notification: {}", e.getMessage());
-        }
+    /**
+     * 매일 새벽 4시 45분에 보관 기간이 지난 읽은 알림 삭제
+     */
+    @Scheduled(cron = "0 45 4 * * *")
+    public void purgeReadNotifications() {
+        schedulerLockService.runExclusively("purgeReadNotifications", LOCK_AT_LEAST_FOR, () -> {
+            int deleted = notificationService.purgeReadNotifications();
+            log.info("=== Notification retention job completed. Deleted: {} ===", deleted);
+        });
     }
 
     /**
-     * 매주 월요일 오전 10시에 주간 요약 (필요시 구현)
+     * 매주 월요일 오전 10시에 사용자별 주간 요약 발송
      */
     @Scheduled(cron = "0 0 10 * * MON")
     public void sendWeeklySummary() {
-        log.info("=== Weekly summary job triggered ===");
-        // TODO: 주간 요약 로직 구현
+        schedulerLockService.runExclusively("weeklySummary", LOCK_AT_LEAST_FOR, () -> {
+            log.info("=== Starting weekly summary job ===");
+            int sentCount = weeklySummaryService.sendWeeklySummaries();
+            log.info("=== Weekly summary job completed. Sent: {} notifications ===", sentCount);
+        });
     }
 }
@@ -0,0 +1,161 @@
+package com.teamhub.service;
+
+import com.teamhub.config.SearchIndexProperties;
+import com.teamhub.repository.CommentRepository;
+import com.teamhub.repository.FileAttachmentRepository;
+import com.teamhub.repository.ProjectRepository;
+import com.teamhub.repository.TaskRepository;
+import com.teamhub.search.SearchDocument;
+import com.teamhub.search.SearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 검색 인덱스 전체 재색인 (백그라운드 단일 스레드)
+ * DB 를 id 순 청크로 읽어 색인하고, 끝나면 이번 재색인에서 다시 색인되지 않은 문서를 제거한다.
+ */
+@Slf4j
+@Service
+public class SearchReindexService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final SearchIndexProperties properties;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CommentRepository commentRepository;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-reindex");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public SearchReindexService(SearchIndex searchIndex,
+                                SearchIndexProperties properties,
+                                TaskRepository taskRepository,
+                                ProjectRepository projectRepository,
+                                CommentRepository commentRepository,
+                                FileAttachmentRepository fileAttachmentRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.properties = properties;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.commentRepository = commentRepository;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfEmpty() {
+        if (properties.isReindexOnEmpty() && searchIndex.isEmpty()) {
+            log.info("Search index is empty. Starting full reindex");
+            startReindex();
+        }
+    }
+
+    /**
+     * @return 새로 시작했으면 true, 이미 재색인 중이면 false
+     */
+    public boolean startReindex() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        executor.submit(() -> {
+            try {
+                reindexAll();
+            } catch (Exception e) {
+                log.error("Search reindex failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 테스트에서는 호출 스레드의 트랜잭션 안에서 바로 실행
+    void reindexAll() throws IOException {
+        long startedAt = System.currentTimeMillis();
+        log.info("=== Starting search reindex ===");
+
+        // 청크를 읽기 전에 시작해야 읽은 뒤 들어온 증분 반영이 모두 기록된다
+        searchIndex.beginReindex(startedAt);
+        boolean completed = false;
+        int projects;
+        int tasks;
+        int comments;
+        int files;
+        try {
+            projects = indexAll(projectRepository::findChunkAfter, SearchDocument::ofProject);
+            tasks = indexAll(taskRepository::findChunkAfter, SearchDocument::ofTask);
+            comments = indexAll(commentRepository::findChunkAfter, SearchDocument::ofComment);
+            files = indexAll(fileAttachmentRepository::findChunkAfter, SearchDocument::ofFile);
+            completed = true;
+        } finally {
+            searchIndex.endReindex(completed);
+        }
+
+        log.info("=== Search reindex completed in {} ms. projects: {}, tasks: {}, comments: {}, files: {} ===",
+                System.currentTimeMillis() - startedAt, projects, tasks, comments, files);
+    }
+
+    private <T> int indexAll(BiFunction<Long, Pageable, List<T>> loader,
+                             Function<T, SearchDocument> mapper) throws IOException {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            long after = lastId;
+            // 연관 엔티티 접근이 끝난 스냅샷만 트랜잭션 밖으로 꺼낸다
+            List<SearchDocument> docs = readOnlyTransaction.execute(status ->
+                    loader.apply(after, chunk).stream().map(mapper).toList());
+
+            if (docs == null || docs.isEmpty()) {
+                return total;
+            }
+
+            for (SearchDocument doc : docs) {
+                if (searchIndex.reindexUpsert(doc)) {
+                    total++;
+                }
+            }
+            lastId = docs.get(docs.size() - 1).id();
+
+            if (docs.size() < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+}
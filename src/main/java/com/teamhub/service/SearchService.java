@@ -1,22 +1,34 @@
 package com.teamhub.service;
 
-import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.domain.project.Task;
+import com.teamhub.domain.user.User;
 import com.teamhub.dto.request.ProjectSearchRequest;
 import com.teamhub.dto.request.TaskSearchRequest;
+import com.teamhub.dto.request.WorkspaceSearchRequest;
 import com.teamhub.dto.response.ProjectResponse;
+import com.teamhub.dto.response.SearchPageResponse;
+import com.teamhub.dto.response.SearchResultResponse;
 import com.teamhub.dto.response.TaskResponse;
 import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.user.UserRole;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ProjectRepository;
 import com.teamhub.repository.TaskRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
+import com.teamhub.repository.UserRepository;
+import com.teamhub.search.SearchIndex;
+import com.teamhub.search.TaskSearchHits;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,41 +36,148 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchService {
 
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+    // 페이지 검색에서 깊게 넘길 수 있는 최대 결과 위치 (offset + size)
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int MAX_FACET_VALUES = 20;
+
+    private final WorkspaceAccessService workspaceAccessService;
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final SearchIndex searchIndex;
+    private final SearchReindexService searchReindexService;
 
+    /**
+     * 태스크 검색 - 키워드가 있으면 검색 인덱스 (관련도순), 없으면 필터 조건만으로 DB 조회 (최신순)
+     */
     @Transactional(readOnly = true)
     public List<TaskResponse> searchTasks(Long userId, Long workspaceId, TaskSearchRequest req) {
 
-        findMemberOrThrow(userId, workspaceId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+
+        int limit = resolveLimit(req.getLimit());
+        String keyword = req.getKeyword() != null ? req.getKeyword().trim() : null;
+
+        if (keyword != null && !keyword.isEmpty()) {
+            TaskSearchHits hits = searchIndex.searchTasks(workspaceId, req, 0, limit);
+            return findTasksInOrder(hits.taskIds());
+        }
 
         return taskRepository.searchTasks(
-                workspaceId,
-                req.getKeyword(),
-                req.getStatus(),
-                req.getPriority(),
-                req.getAssigneeId(),
-                req.getProjectId(),
-                req.getDueDateFrom(),
-                req.getDueDateTo()
-        ).stream()
+                        workspaceId,
+                        req.getStatus(),
+                        req.getPriority(),
+                        req.getAssigneeId(),
+                        req.getProjectId(),
+                        req.getDueDateFrom(),
+                        req.getDueDateTo(),
+                        PageRequest.of(0, limit))
+                .stream()
                 .map(TaskResponse::of)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 태스크 페이지 검색 - 검색 인덱스에서 한 번의 순회로 상위 결과와 필드별 개수를 구하고,
+     * 해당 페이지의 태스크만 DB 에서 한 번에 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public SearchPageResponse<TaskResponse> searchTasksPaged(Long userId, Long workspaceId, TaskSearchRequest req) {
+
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+
+        int size = resolveLimit(req.getLimit());
+        int page = req.getPage() != null && req.getPage() > 0 ? req.getPage() : 0;
+        // page 가 크면 int 곱셈이 넘칠 수 있으므로 long 으로 계산
+        long end = ((long) page + 1) * size;
+        if (end > MAX_RESULT_WINDOW) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        int offset = page * size;
+
+        TaskSearchHits hits = searchIndex.searchTasks(workspaceId, req, offset, size);
+
+        List<TaskResponse> content = findTasksInOrder(hits.taskIds());
+
+        Map<String, List<SearchPageResponse.FacetCount>> facets = new LinkedHashMap<>();
+        hits.facets().forEach((field, counts) -> facets.put(field, counts.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(MAX_FACET_VALUES)
+                .map(e -> new SearchPageResponse.FacetCount(e.getKey(), e.getValue()))
+                .collect(Collectors.toList())));
+
+        return SearchPageResponse.<TaskResponse>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalHits(hits.totalHits())
+                // MAX_RESULT_WINDOW 를 넘는 다음 페이지는 요청할 수 없으므로 없는 것으로 응답
+                .hasNext(offset + size < Math.min(hits.totalHits(), MAX_RESULT_WINDOW))
+                .facets(facets)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public List<ProjectResponse> searchProjects(Long userId, Long workspaceId, ProjectSearchRequest req) {
 
-        findMemberOrThrow(userId, workspaceId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        return projectRepository.searchProjects(workspaceId, req.getKeyword())
+        String keyword = req.getKeyword() != null ? req.getKeyword().trim() : null;
+
+        // 프로젝트명 접두어 검색 (설명 포함 전문 검색은 통합 검색 type=PROJECT 사용)
+        return projectRepository.searchProjects(workspaceId,
+                keyword == null || keyword.isEmpty() ? null : escapeLike(keyword));
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResultResponse> searchWorkspace(Long userId, Long workspaceId, WorkspaceSearchRequest req) {
+
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+
+        return searchIndex.search(workspaceId, req.getKeyword(), req.getType(), resolveLimit(req.getLimit()));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean reindex(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if (user.getRole() != UserRole.ADMIN) {
+            throw new CustomException(ErrorCode.ADMIN_ACCESS_DENIED);
+        }
+
+        boolean started = searchReindexService.startReindex();
+        log.info("Search reindex requested by admin: {} (started: {})", userId, started);
+
+        return started;
+    }
+
+    // 검색 결과 순서대로 태스크 조회 (인덱스 반영 지연 중 삭제된 태스크는 DB 조회에서 빠진다)
+    private List<TaskResponse> findTasksInOrder(List<Long> taskIds) {
+        Map<Long, Task> tasks = taskIds.isEmpty() ? Map.of() : taskRepository.findAllWithAssigneeByIdIn(taskIds)
                 .stream()
-                .map(project -> ProjectResponse.of(project, taskRepository.countByProjectId(project.getId())))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        return taskIds.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(TaskResponse::of)
                 .collect(Collectors.toList());
     }
 
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
+    private String escapeLike(String keyword) {
+        return keyword.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
     }
 }
@@ -0,0 +1,271 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.Notification;
+import com.teamhub.domain.project.Label;
+import com.teamhub.domain.project.Task;
+import com.teamhub.domain.user.User;
+import com.teamhub.dto.request.TaskBulkUpdateRequest;
+import com.teamhub.dto.response.TaskResponse;
+import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.activity.ActivityType;
+import com.teamhub.enums.activity.TargetType;
+import com.teamhub.enums.notification.NotificationType;
+import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
+import com.teamhub.event.WorkspaceChangedEvent;
+import com.teamhub.exception.CustomException;
+import com.teamhub.repository.LabelRepository;
+import com.teamhub.repository.TaskLabelRepository;
+import com.teamhub.repository.TaskRepository;
+import com.teamhub.repository.UserRepository;
+import com.teamhub.search.SearchDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크 일괄 변경 (스프린트 이월 등)
+ * 권한 / 멤버 확인은 요청당 한 번, 변경 항목마다 set-based UPDATE 한 번, 활동 로그 / 알림은 배치 INSERT.
+ * 알림은 받는 사용자당 하나로 합쳐 WebSocket 전송도 사용자당 한 번이 되게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskBulkService {
+
+    static final int MAX_TASKS = 500;
+
+    private static final String INSERT_TASK_LABEL_SQL = "INSERT INTO task_labels (task_id, label_id) VALUES (?, ?)";
+
+    private final TaskRepository taskRepository;
+    private final TaskLabelRepository taskLabelRepository;
+    private final LabelRepository labelRepository;
+    private final UserRepository userRepository;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final ActivityLogService activityLogService;
+    private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    // set-based UPDATE 가 영속성 컨텍스트를 비우기 전에 남겨 두는 변경 전 값
+    private record TaskSnapshot(Long id, String title, TaskStatus status, Long assigneeId, Long creatorId) {
+
+        static TaskSnapshot of(Task task) {
+            return new TaskSnapshot(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getStatus(),
+                    task.getAssignee() != null ? task.getAssignee().getId() : null,
+                    task.getCreatedBy().getId());
+        }
+    }
+
+    @Transactional
+    public List<TaskResponse> bulkUpdate(Long userId, TaskBulkUpdateRequest req) {
+        if (!req.hasChanges()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        Set<Long> taskIds = new LinkedHashSet<>(req.getTaskIds());
+        if (taskIds.size() > MAX_TASKS) {
+            throw new CustomException(ErrorCode.TASK_BULK_LIMIT_EXCEEDED);
+        }
+
+        List<Task> tasks = taskRepository.findAllForBulkByIdIn(taskIds);
+        if (tasks.size() != taskIds.size()) {
+            throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+        }
+
+        // 한 요청은 한 워크스페이스의 태스크만 (권한 확인 한 번)
+        Long workspaceId = tasks.get(0).getProject().getWorkspace().getId();
+        if (tasks.stream().anyMatch(task -> !task.getProject().getWorkspace().getId().equals(workspaceId))) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
+        if (!role.canEditTasks()) {
+            throw new CustomException(ErrorCode.TASK_UPDATE_DENIED);
+        }
+
+        User actor = findUserById(userId);
+        User newAssignee = null;
+        if (!req.isUnassign() && req.getAssigneeId() != null) {
+            newAssignee = findUserById(req.getAssigneeId());
+            workspaceAccessService.getRoleOrThrow(workspaceId, newAssignee.getId());
+        }
+        Set<Long> addLabelIds = findLabelIds(req.getAddLabelIds(), workspaceId);
+        Set<Long> removeLabelIds = findLabelIds(req.getRemoveLabelIds(), workspaceId);
+
+        List<TaskSnapshot> before = tasks.stream().map(TaskSnapshot::of).toList();
+        if (req.getStatus() != null) {
+            taskStatsService.tasksStatusChanged(tasks, req.getStatus());
+        }
+
+        boolean assigneeChanged = req.isUnassign() || newAssignee != null;
+        boolean dueDateChanged = req.isClearDueDate() || req.getDueDate() != null;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (req.getStatus() != null) {
+            taskRepository.bulkUpdateStatus(taskIds, req.getStatus(), req.getStatus() == TaskStatus.DONE ? now : null, now);
+        }
+        if (req.getPriority() != null) {
+            taskRepository.bulkUpdatePriority(taskIds, req.getPriority(), now);
+        }
+        if (assigneeChanged) {
+            taskRepository.bulkUpdateAssignee(taskIds, newAssignee, now);
+        }
+        if (dueDateChanged) {
+            taskRepository.bulkUpdateDueDate(taskIds, req.isClearDueDate() ? null : req.getDueDate(), now);
+        }
+        if (!removeLabelIds.isEmpty()) {
+            taskLabelRepository.deleteAllByTaskIdInAndLabelIdIn(taskIds, removeLabelIds);
+        }
+        if (!addLabelIds.isEmpty()) {
+            addLabels(taskIds, addLabelIds);
+        }
+
+        Long newAssigneeId = newAssignee != null ? newAssignee.getId() : null;
+        activityLogService.logAll(activityLogs(workspaceId, actor, req, before, assigneeChanged, dueDateChanged));
+        notificationService.publishAll(notifications(workspaceId, actor, req.getStatus(), before, newAssigneeId));
+
+        // 변경된 값으로 다시 조회해 검색 색인 / 응답에 사용
+        Map<Long, Task> updated = taskRepository.findAllForBulkByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+        updated.values().forEach(task -> eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofTask(task))));
+        log.info("Tasks bulk updated: {} tasks in workspace: {} by user: {}", taskIds.size(), workspaceId, userId);
+
+        return taskIds.stream()
+                .map(updated::get)
+                .map(TaskResponse::of)
+                .toList();
+    }
+
+    // 이미 붙어 있는 라벨은 건너뛰고 나머지를 JDBC 배치 한 번으로 추가
+    private void addLabels(Set<Long> taskIds, Set<Long> labelIds) {
+        Map<Long, Set<Long>> existing = new HashMap<>();
+        for (Object[] pair : taskLabelRepository.findPairsByTaskIdInAndLabelIdIn(taskIds, labelIds)) {
+            existing.computeIfAbsent((Long) pair[0], k -> new HashSet<>()).add((Long) pair[1]);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            Set<Long> attached = existing.getOrDefault(taskId, Set.of());
+            for (Long labelId : labelIds) {
+                if (!attached.contains(labelId)) {
+                    rows.add(new Object[]{taskId, labelId});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TASK_LABEL_SQL, rows);
+        }
+    }
+
+    private List<ActivityLogWriter.PendingActivityLog> activityLogs(Long workspaceId, User actor, TaskBulkUpdateRequest req,
+                                                                    List<TaskSnapshot> before,
+                                                                    boolean assigneeChanged, boolean dueDateChanged) {
+        List<String> common = new ArrayList<>();
+        if (req.getPriority() != null) common.add("우선순위 " + req.getPriority().name());
+        if (assigneeChanged) common.add(req.isUnassign() ? "담당자 해제" : "담당자 변경");
+        if (dueDateChanged) common.add(req.isClearDueDate() ? "마감일 해제" : "마감일 " + req.getDueDate());
+        if (req.getAddLabelIds() != null && !req.getAddLabelIds().isEmpty()) common.add("라벨 추가");
+        if (req.getRemoveLabelIds() != null && !req.getRemoveLabelIds().isEmpty()) common.add("라벨 제거");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityLogWriter.PendingActivityLog> entries = new ArrayList<>(before.size());
+        for (TaskSnapshot task : before) {
+            boolean statusChanged = req.getStatus() != null && task.status() != req.getStatus();
+            // 상태만 요청했는데 이미 같은 상태인 태스크는 기록하지 않음
+            if (!statusChanged && common.isEmpty()) continue;
+
+            List<String> details = new ArrayList<>();
+            if (statusChanged) details.add(task.status().name() + " → " + req.getStatus().name());
+            details.addAll(common);
+
+            ActivityType type = statusChanged ? ActivityType.TASK_STATUS_CHANGED
+                    : assigneeChanged ? ActivityType.TASK_ASSIGNED
+                    : ActivityType.TASK_UPDATED;
+            entries.add(new ActivityLogWriter.PendingActivityLog(type, workspaceId, actor.getId(),
+                    TargetType.TASK, task.id(), task.title(), "일괄 변경: " + String.join(", ", details), now));
+        }
+        return entries;
+    }
+
+    /**
+     * 단건 변경과 같은 대상 (새 담당자, 상태가 바뀐 태스크의 생성자, 본인 제외) 에게 보내되 사용자당 알림 하나로 합침
+     */
+    private List<Notification> notifications(Long workspaceId, User actor, TaskStatus newStatus,
+                                             List<TaskSnapshot> before, Long newAssigneeId) {
+        Map<Long, Set<Long>> tasksByRecipient = new LinkedHashMap<>();
+        int assignedCount = 0;
+
+        for (TaskSnapshot task : before) {
+            if (newAssigneeId != null && !newAssigneeId.equals(actor.getId())
+                    && !Objects.equals(task.assigneeId(), newAssigneeId)) {
+                tasksByRecipient.computeIfAbsent(newAssigneeId, k -> new HashSet<>()).add(task.id());
+                assignedCount++;
+            }
+            if (newStatus != null && task.status() != newStatus && !task.creatorId().equals(actor.getId())) {
+                tasksByRecipient.computeIfAbsent(task.creatorId(), k -> new HashSet<>()).add(task.id());
+            }
+        }
+
+        List<Notification> notifications = new ArrayList<>(tasksByRecipient.size());
+        for (Map.Entry<Long, Set<Long>> entry : tasksByRecipient.entrySet()) {
+            String message = actor.getName() + "님이 태스크 " + entry.getValue().size() + "개를 일괄 변경했습니다.";
+            if (entry.getKey().equals(newAssigneeId) && assignedCount > 0) {
+                message += " (새로 배정 " + assignedCount + "개)";
+            }
+
+            notifications.add(Notification.builder()
+                    .type(NotificationType.TASK_BULK_UPDATED)
+                    .title("태스크가 일괄 변경되었습니다")
+                    .message(message)
+                    // 배치 INSERT 에는 id 만 필요하므로 조회 없이 참조만 사용
+                    .recipient(userRepository.getReferenceById(entry.getKey()))
+                    .sender(actor)
+                    .targetType("WORKSPACE")
+                    .targetId(workspaceId)
+                    .build());
+        }
+        return notifications;
+    }
+
+    private Set<Long> findLabelIds(List<Long> labelIds, Long workspaceId) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(labelIds);
+        List<Label> labels = labelRepository.findAllById(ids);
+        if (labels.size() != ids.size()
+                || labels.stream().anyMatch(label -> !label.getWorkspace().getId().equals(workspaceId))) {
+            throw new CustomException(ErrorCode.LABEL_NOT_FOUND);
+        }
+        return ids;
+    }
+
+    private User findUserById(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,153 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.project.RankKey;
+import com.teamhub.domain.project.Task;
+import com.teamhub.enums.ErrorCode;
+import com.teamhub.exception.CustomException;
+import com.teamhub.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 태스크 보드 순서 (RankKey)
+ * 이동은 이웃 두 키 사이의 새 키로 이동한 태스크 한 행만 갱신한다.
+ * 같은 위치에 이동/추가가 반복되면 키가 길어지므로, 새 키가 MAX_KEY_LENGTH 를 넘으면 그 프로젝트를 바로 고르게 다시 매긴다.
+ */
+@Slf4j
+@Service
+public class TaskRankService {
+
+    static final int MAX_KEY_LENGTH = 32;
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskRankService(TaskRepository taskRepository,
+                           JdbcTemplate jdbcTemplate,
+                           SchedulerLockService schedulerLockService,
+                           PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 새 태스크는 프로젝트 맨 뒤
+    public String nextRankAtEnd(Long projectId) {
+        String key = RankKey.between(taskRepository.findMaxRankKey(projectId), null);
+        if (key.length() > MAX_KEY_LENGTH) {
+            rebalance(projectId);
+            key = RankKey.between(taskRepository.findMaxRankKey(projectId), null);
+        }
+        return key;
+    }
+
+    /**
+     * afterTaskId 뒤, beforeTaskId 앞에 놓일 키. 한쪽만 주면 다른 쪽 이웃은 현재 순서에서 찾는다.
+     * 이웃 키가 같거나 (동시 이동) 아직 없거나, 새 키가 너무 길면 프로젝트를 다시 매긴 뒤 한 번 더 계산한다.
+     */
+    public String rankForMove(Task task, Long afterTaskId, Long beforeTaskId) {
+        if (afterTaskId == null && beforeTaskId == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        Long projectId = task.getProject().getId();
+        validateNeighbor(task, afterTaskId);
+        validateNeighbor(task, beforeTaskId);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            String lower = afterTaskId != null
+                    ? taskRepository.findRankKeyById(afterTaskId)
+                    : neighborRank(projectId, beforeTaskId, task.getId(), false);
+            String upper = beforeTaskId != null
+                    ? taskRepository.findRankKeyById(beforeTaskId)
+                    : neighborRank(projectId, afterTaskId, task.getId(), true);
+
+            boolean missingKey = (afterTaskId != null && lower == null) || (beforeTaskId != null && upper == null);
+            if (!missingKey && (lower == null || upper == null || lower.compareTo(upper) < 0)) {
+                String key = RankKey.between(lower, upper);
+                if (key.length() <= MAX_KEY_LENGTH || attempt > 0) {
+                    return key;
+                }
+            }
+            rebalance(projectId);
+        }
+
+        // 다시 매긴 뒤에도 순서가 맞지 않으면 after / before 가 뒤바뀐 요청
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+
+    /**
+     * 프로젝트의 모든 태스크 키를 현재 순서대로 같은 길이로 고르게 다시 매긴다 (JDBC 배치 한 번).
+     * 호출한 쪽 트랜잭션에 참여한다.
+     */
+    public void rebalance(Long projectId) {
+        List<Long> ids = taskRepository.findIdsForRebalance(projectId);
+        List<String> keys = RankKey.evenlySpaced(ids.size());
+
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            args.add(new Object[]{keys.get(i), ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE tasks SET rank_key = ? WHERE id = ?", args);
+        log.info("Task ranks rebalanced - project: {}, tasks: {}", projectId, ids.size());
+    }
+
+    /**
+     * 키가 없는 태스크가 남은 프로젝트를 프로젝트별 트랜잭션으로 다시 매긴다.
+     */
+    public int backfillMissingKeys() {
+        List<Long> projectIds = taskRepository.findProjectIdsWithoutRankKey();
+        for (Long projectId : projectIds) {
+            transactionTemplate.executeWithoutResult(status -> rebalance(projectId));
+        }
+        return projectIds.size();
+    }
+
+    // 배포 후 기존 태스크 (rank_key 없음) 에 displayOrder 순서대로 키 부여
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        schedulerLockService.runExclusively("taskRankBackfill", Duration.ZERO, () -> {
+            int projects = backfillMissingKeys();
+            if (projects > 0) {
+                log.info("Task rank backfill completed. Projects: {}", projects);
+            }
+        });
+    }
+
+    private String neighborRank(Long projectId, Long anchorId, Long movingTaskId, boolean next) {
+        String anchorRank = taskRepository.findRankKeyById(anchorId);
+        if (anchorRank == null) {
+            return null;
+        }
+        List<String> ranks = next
+                ? taskRepository.findNextRankKeys(projectId, anchorRank, anchorId, movingTaskId, PageRequest.of(0, 1))
+                : taskRepository.findPreviousRankKeys(projectId, anchorRank, anchorId, movingTaskId, PageRequest.of(0, 1));
+        return ranks.isEmpty() ? null : ranks.get(0);
+    }
+
+    private void validateNeighbor(Task task, Long neighborId) {
+        if (neighborId == null) {
+            return;
+        }
+        if (neighborId.equals(task.getId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        Task neighbor = taskRepository.findById(neighborId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+        if (!neighbor.getProject().getId().equals(task.getProject().getId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
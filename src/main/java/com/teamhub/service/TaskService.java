@@ -3,21 +3,28 @@ package com.teamhub.service;
 import com.teamhub.domain.project.Project;
 import com.teamhub.domain.project.Task;
 import com.teamhub.domain.user.User;
-import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.dto.request.TaskMoveRequest;
 import com.teamhub.dto.request.TaskRequest;
+import com.teamhub.dto.response.CursorPageResponse;
 import com.teamhub.dto.response.TaskResponse;
 import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.activity.ActivityType;
 import com.teamhub.enums.activity.TargetType;
 import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
+import com.teamhub.event.WorkspaceChangedEvent;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.ProjectRepository;
 import com.teamhub.repository.TaskRepository;
 import com.teamhub.repository.UserRepository;
-import com.teamhub.repository.WorkspaceMemberRepository;
+import com.teamhub.search.SearchDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -34,16 +41,19 @@ public class TaskService {
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(Long userId, Long projectId, TaskRequest request){
         Project project = findProjectById(projectId);
-        WorkspaceMember member = findMemberOrThrow(project.getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
 
-        if(!member.canEditTasks()) {
+        if(!role.canEditTasks()) {
             throw new CustomException(ErrorCode.TASK_CREATE_DENIED);
         }
 
@@ -53,7 +63,7 @@ public class TaskService {
         if(request.getAssigneeId() != null) {
             assignee = findUserById(request.getAssigneeId());
             //담당자도 워크스페이스 멤버인지 확인
-            findMemberOrThrow(project.getWorkspace().getId(), assignee.getId());
+            workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), assignee.getId());
         }
 
         Task task = Task.builder()
@@ -65,9 +75,11 @@ public class TaskService {
                 .assignee(assignee)
                 .createdBy(creator)
                 .dueDate(request.getDueDate())
+                .rankKey(taskRankService.nextRankAtEnd(projectId))
                 .build();
 
         taskRepository.save(task);
+        taskStatsService.taskCreated(task);
 
         //활동로그
         activityLogService.log(
@@ -85,6 +97,8 @@ public class TaskService {
             notificationService.sendTaskAssignedNotification(task, creator);
         }
 
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(project.getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofTask(task)));
         log.info("Task created: {} in project: {}", task.getTitle(), projectId);
 
         return TaskResponse.of(task);
@@ -93,9 +107,9 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasks(Long userId, Long projectId){
         Project project = findProjectById(projectId);
-        findMemberOrThrow(project.getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
 
-        return taskRepository.findAllByProjectIdOrderByDisplayOrderAsc(projectId)
+        return taskRepository.findAllByProjectIdOrderByRankKeyAscIdAsc(projectId)
                 .stream()
                 .map(TaskResponse::of)
                 .collect(Collectors.toList());
@@ -104,9 +118,9 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByStatus(Long userId, Long projectId, TaskStatus status){
         Project project = findProjectById(projectId);
-        findMemberOrThrow(project.getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
 
-        return taskRepository.findAllByProjectIdAndStatusOrderByDisplayOrderAsc(projectId, status)
+        return taskRepository.findAllByProjectIdAndStatusOrderByRankKeyAscIdAsc(projectId, status)
                 .stream()
                 .map(TaskResponse::of)
                 .collect(Collectors.toList());
@@ -123,7 +137,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public TaskResponse getTask(Long userId, Long taskId){
         Task task = findTaskById(taskId);
-        findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
         return TaskResponse.of(task);
     }
@@ -131,9 +145,9 @@ public class TaskService {
     @Transactional
     public TaskResponse updateTask(Long userId, Long taskId, TaskRequest req){
         Task task = findTaskById(taskId);
-        WorkspaceMember member = findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
-        if(!member.canEditTasks()) {
+        if(!role.canEditTasks()) {
             throw new CustomException(ErrorCode.TASK_UPDATE_DENIED);
         }
 
@@ -143,17 +157,18 @@ public class TaskService {
         task.updateInfo(req.getTitle(), req.getDescription(), req.getPriority(), req.getDueDate());
 
         if(req.getStatus() != null) {
-            String oldStatus = task.getStatus().name();
+            TaskStatus oldStatus = task.getStatus();
             task.changeStatus(req.getStatus());
+            taskStatsService.taskStatusChanged(task, oldStatus, req.getStatus());
 
             // 상태 변경 알림
-            notificationService.sendTaskStatusChangedNotification(task, updater, oldStatus, req.getStatus().name());
+            notificationService.sendTaskStatusChangedNotification(task, updater, oldStatus.name(), req.getStatus().name());
         }
 
 
         if(req.getAssigneeId() != null) {
             User newAssignee = findUserById(req.getAssigneeId());
-            findMemberOrThrow(task.getProject().getWorkspace().getId(), newAssignee.getId());
+            workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), newAssignee.getId());
             task.assignTo(newAssignee);
 
             //새 담당자에게 알림(이전 담당자와 다르고, 본인이 아닐 떄)
@@ -176,22 +191,27 @@ public class TaskService {
                 null
         );
 
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(task.getProject().getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofTask(task)));
+
         return TaskResponse.of(task);
     }
 
     @Transactional
     public TaskResponse changeTaskStatus(Long userId, Long taskId, TaskStatus status){
         Task task = findTaskById(taskId);
-        WorkspaceMember member = findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
-        if(!member.canEditTasks()) {
+        if(!role.canEditTasks()) {
             throw new CustomException(ErrorCode.TASK_STATUS_CHANGE_DENIED);
         }
 
         User changer = findUserById(userId);
-        String oldStatus = task.getStatus().name();
+        TaskStatus previousStatus = task.getStatus();
+        String oldStatus = previousStatus.name();
 
         task.changeStatus(status);
+        taskStatsService.taskStatusChanged(task, previousStatus, status);
 
         //활동로그
         activityLogService.log(
@@ -207,17 +227,37 @@ public class TaskService {
         //상태변셩 알림
         notificationService.sendTaskStatusChangedNotification(task, changer, oldStatus, status.name());
 
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(task.getProject().getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.ofTask(task)));
         log.info("Task change status:{} -> {}", taskId, status);
 
         return TaskResponse.of(task);
     }
 
+    // 보드 순서 변경 - 이동한 태스크 한 행의 rankKey 만 갱신
+    @Transactional
+    public TaskResponse moveTask(Long userId, Long taskId, TaskMoveRequest req) {
+        Task task = findTaskById(taskId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
+
+        if(!role.canEditTasks()) {
+            throw new CustomException(ErrorCode.TASK_UPDATE_DENIED);
+        }
+
+        task.changeRank(taskRankService.rankForMove(task, req.getAfterTaskId(), req.getBeforeTaskId()));
+
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(task.getProject().getWorkspace().getId()));
+        log.info("Task moved: {} -> rank {}", taskId, task.getRankKey());
+
+        return TaskResponse.of(task);
+    }
+
     @Transactional
     public void deleteTask(Long userId, Long taskId) {
         Task task = findTaskById(taskId);
-        WorkspaceMember member = findMemberOrThrow(task.getProject().getWorkspace().getId(), userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(task.getProject().getWorkspace().getId(), userId);
 
-        if(!member.canEditTasks()) {
+        if(!role.canEditTasks()) {
             throw new CustomException(ErrorCode.TASK_DELETE_DENIED);
         }
         
@@ -235,6 +275,9 @@ public class TaskService {
         );
 
         task.delete();
+        taskStatsService.taskDeleted(task);
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(task.getProject().getWorkspace().getId()));
+        eventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.TASK, taskId));
         log.info("Task soft deleted: {}", taskId);
     }
 
@@ -254,17 +297,39 @@ public class TaskService {
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
     }
 
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
-
     @Transactional(readOnly = true)
     public Page<TaskResponse> getTasksPaged(Long userId, Long projectId, Pageable pageable) {
         Project project = findProjectById(projectId);
-        findMemberOrThrow(project.getWorkspace().getId(), userId);
+        workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
 
         return taskRepository.findAllByProjectId(projectId, pageable)
                 .map(TaskResponse::of);
     }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksByCursor(Long userId, Long projectId, String cursor, int size) {
+        Project project = findProjectById(projectId);
+        workspaceAccessService.getRoleOrThrow(project.getWorkspace().getId(), userId);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Task> rows;
+
+        if (cursor == null || cursor.isBlank()) {
+            rows = taskRepository.findFirstPageByProjectId(projectId, limit);
+        } else {
+            String[] key = CursorPageResponse.decodeCursor(cursor, 2);
+            try {
+                // 키가 없는 태스크는 빈 문자열로 인코딩됨 (정렬상 맨 앞)
+                rows = key[0].isEmpty()
+                        ? taskRepository.findPageByProjectIdAfterUnranked(projectId, Long.valueOf(key[1]), limit)
+                        : taskRepository.findPageByProjectIdAfter(projectId, key[0], Long.valueOf(key[1]), limit);
+            } catch (NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        return CursorPageResponse.of(rows, size, TaskResponse::of,
+                task -> new Object[]{task.getRankKey() != null ? task.getRankKey() : "", task.getId()});
+    }
 }
@@ -0,0 +1,237 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.project.Task;
+import com.teamhub.domain.stats.ProjectTaskStats;
+import com.teamhub.domain.stats.WorkspaceTaskStats;
+import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.repository.ProjectTaskStatsRepository;
+import com.teamhub.repository.TaskRepository;
+import com.teamhub.repository.WorkspaceTaskStatsRepository;
+import com.teamhub.repository.projection.TaskStatsRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 워크스페이스 / 프로젝트 상태별 태스크 카운터 관리
+ * 태스크 쓰기 트랜잭션 안에서 증분 갱신하고, 재집계 작업으로 오차를 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final WorkspaceTaskStatsRepository workspaceTaskStatsRepository;
+    private final ProjectTaskStatsRepository projectTaskStatsRepository;
+
+    @Transactional
+    public void taskCreated(Task task) {
+        apply(task.getProject(), task.getStatus(), 1);
+    }
+
+    @Transactional
+    public void taskDeleted(Task task) {
+        apply(task.getProject(), task.getStatus(), -1);
+    }
+
+    @Transactional
+    public void taskStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) return;
+
+        apply(task.getProject(), oldStatus, -1);
+        apply(task.getProject(), newStatus, 1);
+    }
+
+    /**
+     * 일괄 상태 변경 - (프로젝트, 상태) / (워크스페이스, 상태) 별 증감을 합쳐 카운터 행마다 한 번만 갱신
+     * 변경 전 상태를 가진 엔티티로 호출해야 한다.
+     */
+    @Transactional
+    public void tasksStatusChanged(Collection<Task> tasks, TaskStatus newStatus) {
+        Map<Long, Long> projectWorkspaceIds = new HashMap<>();
+        Map<Long, Map<TaskStatus, Long>> projectDeltas = new HashMap<>();
+        Map<Long, Map<TaskStatus, Long>> workspaceDeltas = new HashMap<>();
+
+        for (Task task : tasks) {
+            if (task.getStatus() == newStatus) continue;
+
+            Long projectId = task.getProject().getId();
+            Long workspaceId = task.getProject().getWorkspace().getId();
+            projectWorkspaceIds.put(projectId, workspaceId);
+
+            Map<TaskStatus, Long> project = projectDeltas.computeIfAbsent(projectId, k -> new EnumMap<>(TaskStatus.class));
+            project.merge(task.getStatus(), -1L, Long::sum);
+            project.merge(newStatus, 1L, Long::sum);
+
+            Map<TaskStatus, Long> workspace = workspaceDeltas.computeIfAbsent(workspaceId, k -> new EnumMap<>(TaskStatus.class));
+            workspace.merge(task.getStatus(), -1L, Long::sum);
+            workspace.merge(newStatus, 1L, Long::sum);
+        }
+
+        projectDeltas.forEach((projectId, deltas) -> deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                projectTaskStatsRepository.increment(projectId, projectWorkspaceIds.get(projectId), status.name(), delta);
+            }
+        }));
+        workspaceDeltas.forEach((workspaceId, deltas) -> deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                workspaceTaskStatsRepository.increment(workspaceId, status.name(), delta);
+            }
+        }));
+    }
+
+    // 프로젝트 삭제 시 해당 프로젝트의 태스크 수를 워크스페이스 카운터에서 제외
+    @Transactional
+    public void projectDeleted(Project project) {
+        Long workspaceId = project.getWorkspace().getId();
+
+        for (ProjectTaskStats stats : projectTaskStatsRepository.findAllByProjectId(project.getId())) {
+            if (stats.getTaskCount() != 0) {
+                workspaceTaskStatsRepository.increment(workspaceId, stats.getStatus().name(), -stats.getTaskCount());
+            }
+        }
+        projectTaskStatsRepository.deleteAllByProjectId(project.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<TaskStatus, Long> getWorkspaceCounts(Long workspaceId) {
+        return toStatusMap(workspaceTaskStatsRepository.findAllByWorkspaceId(workspaceId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getWorkspaceTotals(Collection<Long> workspaceIds) {
+        Map<Long, Long> totals = new HashMap<>();
+        workspaceTaskStatsRepository.findAllByWorkspaceIdIn(workspaceIds)
+                .forEach(stats -> totals.merge(stats.getWorkspaceId(), stats.getTaskCount(), Long::sum));
+        return totals;
+    }
+
+    @Transactional(readOnly = true)
+    public Long getTotalTaskCount() {
+        return workspaceTaskStatsRepository.sumTaskCount();
+    }
+
+    /**
+     * tasks 테이블 기준으로 카운터를 다시 계산하고, 값이 다른 행 수를 반환
+     * 태스크 집계와 카운터 조회를 같은 스냅샷 (REPEATABLE READ) 에서 읽고 차이만 증감으로 반영하므로,
+     * 재집계 도중 커밋된 태스크 변경의 증분 갱신을 덮어쓰지 않는다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        List<TaskStatsRow> rows = taskRepository.countAllGroupByProjectAndStatus();
+
+        // 실제 값 (projectId -> status -> count, workspaceId -> status -> count)
+        Map<Long, Long> projectWorkspaceIds = new HashMap<>();
+        Map<Long, Map<TaskStatus, Long>> expectedProjects = new HashMap<>();
+        Map<Long, Map<TaskStatus, Long>> expectedWorkspaces = new HashMap<>();
+
+        for (TaskStatsRow row : rows) {
+            TaskStatus status = TaskStatus.valueOf(row.getStatus());
+            projectWorkspaceIds.put(row.getProjectId(), row.getWorkspaceId());
+            expectedProjects.computeIfAbsent(row.getProjectId(), k -> new EnumMap<>(TaskStatus.class))
+                    .put(status, row.getTaskCount());
+            expectedWorkspaces.computeIfAbsent(row.getWorkspaceId(), k -> new EnumMap<>(TaskStatus.class))
+                    .merge(status, row.getTaskCount(), Long::sum);
+        }
+
+        int drift = 0;
+
+        // 프로젝트 카운터
+        Map<Long, Map<TaskStatus, Long>> storedProjects = new HashMap<>();
+        for (ProjectTaskStats stats : projectTaskStatsRepository.findAll()) {
+            projectWorkspaceIds.putIfAbsent(stats.getProjectId(), stats.getWorkspaceId());
+            storedProjects.computeIfAbsent(stats.getProjectId(), k -> new EnumMap<>(TaskStatus.class))
+                    .put(stats.getStatus(), stats.getTaskCount());
+        }
+        for (Long projectId : union(expectedProjects.keySet(), storedProjects.keySet())) {
+            Map<TaskStatus, Long> expected = expectedProjects.getOrDefault(projectId, Map.of());
+            Map<TaskStatus, Long> stored = storedProjects.getOrDefault(projectId, Map.of());
+
+            for (TaskStatus status : TaskStatus.values()) {
+                long actual = expected.getOrDefault(status, 0L);
+                Long current = stored.get(status);
+                if (current == null && actual == 0) continue;
+                long delta = actual - (current != null ? current : 0L);
+                if (delta != 0) {
+                    projectTaskStatsRepository.increment(projectId, projectWorkspaceIds.get(projectId), status.name(), delta);
+                    drift++;
+                }
+            }
+        }
+
+        // 워크스페이스 카운터
+        Map<Long, Map<TaskStatus, Long>> storedWorkspaces = new HashMap<>();
+        for (WorkspaceTaskStats stats : workspaceTaskStatsRepository.findAll()) {
+            storedWorkspaces.computeIfAbsent(stats.getWorkspaceId(), k -> new EnumMap<>(TaskStatus.class))
+                    .put(stats.getStatus(), stats.getTaskCount());
+        }
+        for (Long workspaceId : union(expectedWorkspaces.keySet(), storedWorkspaces.keySet())) {
+            Map<TaskStatus, Long> expected = expectedWorkspaces.getOrDefault(workspaceId, Map.of());
+            Map<TaskStatus, Long> stored = storedWorkspaces.getOrDefault(workspaceId, Map.of());
+
+            for (TaskStatus status : TaskStatus.values()) {
+                long actual = expected.getOrDefault(status, 0L);
+                Long current = stored.get(status);
+                if (current == null && actual == 0) continue;
+                long delta = actual - (current != null ? current : 0L);
+                if (delta != 0) {
+                    workspaceTaskStatsRepository.increment(workspaceId, status.name(), delta);
+                    drift++;
+                }
+            }
+        }
+
+        if (drift > 0) {
+            log.warn("Task stats drift corrected: {} counter rows", drift);
+        } else {
+            log.info("Task stats reconciled: no drift");
+        }
+        return drift;
+    }
+
+    /**
+     * 카운터 테이블이 비어 있을 때만 (첫 배포) 재집계. 이미 있으면 야간 재집계에 맡긴다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public boolean reconcileIfEmpty() {
+        if (workspaceTaskStatsRepository.count() > 0) {
+            return false;
+        }
+        reconcile();
+        return true;
+    }
+
+    //helper methods
+    private void apply(Project project, TaskStatus status, long delta) {
+        Long workspaceId = project.getWorkspace().getId();
+        projectTaskStatsRepository.increment(project.getId(), workspaceId, status.name(), delta);
+        workspaceTaskStatsRepository.increment(workspaceId, status.name(), delta);
+    }
+
+    private Map<TaskStatus, Long> toStatusMap(List<WorkspaceTaskStats> stats) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        stats.forEach(s -> counts.put(s.getStatus(), s.getTaskCount()));
+        return counts;
+    }
+
+    private static <T> Set<T> union(Set<T> a, Set<T> b) {
+        Set<T> result = new HashSet<>(a);
+        result.addAll(b);
+        return result;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,18 @@ public class WebSocketNotificationService {
         log.info("WebSocket notification sent to user: {}", userId);
     }
 
+    /**
+     * 안 읽은 알림 수 전송 (클라이언트가 /unread-count 를 폴링하지 않도록)
+     */
+    public void sendUnreadCount(Long userId, long unreadCount) {
+        messagingTemplate.convertAndSendToUser(
+                userId.toString(),
+                "/queue/unread-count",
+                Map.of("unreadCount", unreadCount)
+        );
+        log.debug("WebSocket unread count sent to user: {}", userId);
+    }
+
     /**
      * 워크스페이스 전체 멤버에게 브로드캐스트
      */
@@ -0,0 +1,220 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.Notification;
+import com.teamhub.enums.activity.TargetType;
+import com.teamhub.enums.notification.NotificationType;
+import com.teamhub.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주간 요약 배치
+ * 워크스페이스를 id 순 청크로 나눠 병렬로 집계하고 (워크스페이스당 GROUP BY 쿼리 2개),
+ * 사용자별로 합친 뒤 알림을 BATCH_SIZE 개씩 JDBC 배치로 기록한다.
+ * 행 단위로 엔티티를 읽지 않으므로 메모리는 사용자 수 x 카운터 4개 정도만 사용한다.
+ */
+@Slf4j
+@Service
+public class WeeklySummaryService {
+
+    private static final int WORKSPACE_CHUNK_SIZE = 200;
+    private static final int PARALLELISM = 4;
+    private static final int BATCH_SIZE = 500;
+
+    // 미완료 태스크 - 지연 / 이번 주 마감 예정 수
+    private static final String TASK_COUNTS_SQL =
+            "SELECT t.assignee_id, " +
+                    "SUM(CASE WHEN t.due_date < ? THEN 1 ELSE 0 END) AS overdue, " +
+                    "SUM(CASE WHEN t.due_date >= ? THEN 1 ELSE 0 END) AS upcoming " +
+                    "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                    "WHERE p.workspace_id = ? AND p.is_deleted = false AND t.is_deleted = false " +
+                    "AND t.assignee_id IS NOT NULL AND t.status <> 'DONE' AND t.due_date < ? " +
+                    "GROUP BY t.assignee_id";
+
+    // 지난 주 완료한 담당 태스크 수 (tasks.completed_at 기준, 활동 로그 문구에 의존하지 않음)
+    private static final String COMPLETED_COUNTS_SQL =
+            "SELECT t.assignee_id, COUNT(*) AS completed " +
+                    "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                    "WHERE p.workspace_id = ? AND p.is_deleted = false AND t.is_deleted = false " +
+                    "AND t.assignee_id IS NOT NULL AND t.status = 'DONE' " +
+                    "AND t.completed_at >= ? AND t.completed_at < ? " +
+                    "GROUP BY t.assignee_id";
+
+    // 지난 주 활동 로그 - 다른 사람이 담당 태스크에 단 댓글 수
+    private static final String COMMENT_COUNTS_SQL =
+            "SELECT t.assignee_id, COUNT(*) AS comments " +
+                    "FROM activity_logs a JOIN tasks t ON t.id = a.target_id " +
+                    "WHERE a.workspace_id = ? AND a.activity_type = 'COMMENT_ADDED' " +
+                    "AND a.created_at >= ? AND a.created_at < ? AND a.target_type = ? " +
+                    "AND t.assignee_id IS NOT NULL AND a.actor_id <> t.assignee_id " +
+                    "GROUP BY t.assignee_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+
+    private final Counter workspaceCounter;
+    private final Counter sentCounter;
+    private final Timer jobTimer;
+
+    private static final class WeeklyDigest {
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger overdue = new AtomicInteger();
+        private final AtomicInteger upcoming = new AtomicInteger();
+        private final AtomicInteger comments = new AtomicInteger();
+
+        private boolean isEmpty() {
+            return completed.get() == 0 && overdue.get() == 0 && upcoming.get() == 0 && comments.get() == 0;
+        }
+    }
+
+    public WeeklySummaryService(JdbcTemplate jdbcTemplate,
+                                NotificationService notificationService,
+                                UserRepository userRepository,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationService = notificationService;
+        this.userRepository = userRepository;
+
+        this.workspaceCounter = Counter.builder("summary.weekly.workspaces").register(meterRegistry);
+        this.sentCounter = Counter.builder("summary.weekly.notifications.sent").register(meterRegistry);
+        this.jobTimer = Timer.builder("summary.weekly.duration").register(meterRegistry);
+    }
+
+    /**
+     * @return 보낸 알림 수
+     */
+    public int sendWeeklySummaries() {
+        return jobTimer.record(() -> {
+            LocalDate today = LocalDate.now();
+            Map<Long, WeeklyDigest> digests = aggregate(today);
+            return writeNotifications(digests, today);
+        });
+    }
+
+    private Map<Long, WeeklyDigest> aggregate(LocalDate today) {
+        Map<Long, WeeklyDigest> digests = new ConcurrentHashMap<>();
+
+        // 큐가 차면 호출 스레드가 직접 실행 (워크스페이스 id 를 앞서 읽어 두지 않도록)
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PARALLELISM * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "weekly-summary");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Long> workspaceIds = jdbcTemplate.queryForList(
+                        "SELECT id FROM workspaces WHERE id > ? AND is_deleted = false ORDER BY id LIMIT ?",
+                        Long.class, lastId, WORKSPACE_CHUNK_SIZE);
+                if (workspaceIds.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<Void>> futures = new ArrayList<>(workspaceIds.size());
+                for (Long workspaceId : workspaceIds) {
+                    futures.add(CompletableFuture.runAsync(() -> aggregateWorkspace(workspaceId, today, digests), executor));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+                workspaceCounter.increment(workspaceIds.size());
+                lastId = workspaceIds.get(workspaceIds.size() - 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return digests;
+    }
+
+    private void aggregateWorkspace(Long workspaceId, LocalDate today, Map<Long, WeeklyDigest> digests) {
+        LocalDate upcomingEnd = today.plusDays(7);
+        jdbcTemplate.query(TASK_COUNTS_SQL, rs -> {
+                    WeeklyDigest digest = digests.computeIfAbsent(rs.getLong("assignee_id"), k -> new WeeklyDigest());
+                    digest.overdue.addAndGet(rs.getInt("overdue"));
+                    digest.upcoming.addAndGet(rs.getInt("upcoming"));
+                },
+                Date.valueOf(today), Date.valueOf(today), workspaceId, Date.valueOf(upcomingEnd));
+
+        Timestamp weekStart = Timestamp.valueOf(today.minusDays(7).atStartOfDay());
+        Timestamp weekEnd = Timestamp.valueOf(today.atStartOfDay());
+        jdbcTemplate.query(COMPLETED_COUNTS_SQL, rs -> {
+                    WeeklyDigest digest = digests.computeIfAbsent(rs.getLong("assignee_id"), k -> new WeeklyDigest());
+                    digest.completed.addAndGet(rs.getInt("completed"));
+                },
+                workspaceId, weekStart, weekEnd);
+
+        // target_type 은 ORDINAL 로 저장됨
+        jdbcTemplate.query(COMMENT_COUNTS_SQL, rs -> {
+                    WeeklyDigest digest = digests.computeIfAbsent(rs.getLong("assignee_id"), k -> new WeeklyDigest());
+                    digest.comments.addAndGet(rs.getInt("comments"));
+                },
+                workspaceId, weekStart, weekEnd, TargetType.TASK.ordinal());
+    }
+
+    private int writeNotifications(Map<Long, WeeklyDigest> digests, LocalDate today) {
+        int sent = 0;
+        List<Notification> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (Map.Entry<Long, WeeklyDigest> entry : digests.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            batch.add(createNotification(entry.getKey(), entry.getValue(), today));
+
+            if (batch.size() == BATCH_SIZE) {
+                sent += notificationService.publishAll(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sent += notificationService.publishAll(batch);
+        }
+
+        sentCounter.increment(sent);
+        return sent;
+    }
+
+    private Notification createNotification(Long userId, WeeklyDigest digest, LocalDate today) {
+        String message = "지난 주 완료 " + digest.completed.get() + "건, "
+                + "지연 " + digest.overdue.get() + "건, "
+                + "이번 주 마감 예정 " + digest.upcoming.get() + "건, "
+                + "받은 댓글 " + digest.comments.get() + "건";
+
+        return Notification.builder()
+                .type(NotificationType.WEEKLY_SUMMARY)
+                .title("주간 요약")
+                .message(message)
+                // 배치 INSERT 에는 id 만 필요하므로 조회 없이 참조만 사용
+                .recipient(userRepository.getReferenceById(userId))
+                // (사용자, ISO 주) 당 한 번만 발송 - 같은 주에 재실행되거나 날짜가 바뀌어도 중복 없음
+                .dedupeKey(NotificationType.WEEKLY_SUMMARY.name() + ":" + userId + ":" + isoWeek(today))
+                .build();
+    }
+
+    // 예: 2026-W42 (연말/연초 주는 주 기준 연도를 사용)
+    private static String isoWeek(LocalDate date) {
+        return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
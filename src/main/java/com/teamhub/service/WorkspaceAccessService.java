@@ -0,0 +1,115 @@
+package com.teamhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.teamhub.enums.ErrorCode;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.WorkspaceMembershipChangedEvent;
+import com.teamhub.exception.CustomException;
+import com.teamhub.repository.WorkspaceMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워크스페이스 멤버 권한 확인
+ * 요청 안에서는 요청 속성에 메모하고, 요청 사이에는 로컬 캐시로 (workspaceId, userId) -> 역할 을 재사용한다.
+ * 멤버 변경 이벤트가 커밋된 뒤 해당 항목을 제거한다. (다른 인스턴스는 MembershipCacheInvalidator 가 몇 초 안에 제거)
+ * 멤버 관리 (초대 / 제거) 권한만 getRoleUncached 로 항상 DB 에서 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkspaceAccessService {
+
+    private static final String REQUEST_MEMO_ATTRIBUTE = WorkspaceAccessService.class.getName() + ".memo";
+
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final Cache<MembershipKey, WorkspaceRole> workspaceMembershipCache;
+
+    public record MembershipKey(Long workspaceId, Long userId) {
+    }
+
+    /**
+     * 멤버가 아니면 WORKSPACE_ACCESS_DENIED
+     */
+    public WorkspaceRole getRoleOrThrow(Long workspaceId, Long userId) {
+        MembershipKey key = new MembershipKey(workspaceId, userId);
+
+        Map<MembershipKey, WorkspaceRole> memo = requestMemo();
+        WorkspaceRole role = memo != null ? memo.get(key) : null;
+
+        if (role == null) {
+            // 멤버가 아닌 경우는 캐시하지 않음 (초대 직후 바로 접근 가능하도록)
+            role = workspaceMembershipCache.get(key, k ->
+                    workspaceMemberRepository.findRoleByWorkspaceIdAndUserId(k.workspaceId(), k.userId()).orElse(null));
+            if (role == null) {
+                throw new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED);
+            }
+            if (memo != null) {
+                memo.put(key, role);
+            }
+        }
+
+        return role;
+    }
+
+    /**
+     * 멤버 관리 권한 확인용 - 캐시를 거치지 않고 DB 에서 읽는다. (다른 인스턴스의 무효화가 반영되기 전에도 최신 역할로 판단)
+     * 멤버가 아니면 WORKSPACE_ACCESS_DENIED
+     */
+    public WorkspaceRole getRoleUncached(Long workspaceId, Long userId) {
+        MembershipKey key = new MembershipKey(workspaceId, userId);
+        Map<MembershipKey, WorkspaceRole> memo = requestMemo();
+
+        WorkspaceRole role = workspaceMemberRepository.findRoleByWorkspaceIdAndUserId(workspaceId, userId).orElse(null);
+        if (role == null) {
+            workspaceMembershipCache.invalidate(key);
+            if (memo != null) {
+                memo.remove(key);
+            }
+            throw new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED);
+        }
+
+        // 읽은 김에 캐시도 최신 값으로 갱신
+        workspaceMembershipCache.put(key, role);
+        if (memo != null) {
+            memo.put(key, role);
+        }
+        return role;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(WorkspaceMembershipChangedEvent event) {
+        MembershipKey key = new MembershipKey(event.workspaceId(), event.userId());
+        workspaceMembershipCache.invalidate(key);
+
+        Map<MembershipKey, WorkspaceRole> memo = requestMemo();
+        if (memo != null) {
+            memo.remove(key);
+        }
+        log.debug("Membership cache evicted: {}", key);
+    }
+
+    // HTTP 요청 밖 (스케줄러, WebSocket 등) 에서는 메모 없이 캐시만 사용
+    @SuppressWarnings("unchecked")
+    private Map<MembershipKey, WorkspaceRole> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<MembershipKey, WorkspaceRole> memo =
+                (Map<MembershipKey, WorkspaceRole>) attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
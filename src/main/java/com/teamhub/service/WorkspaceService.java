@@ -9,6 +9,9 @@ import com.teamhub.dto.response.MemberResponse;
 import com.teamhub.dto.response.WorkspaceResponse;
 import com.teamhub.enums.ErrorCode;
 import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.SearchIndexEvent;
+import com.teamhub.event.WorkspaceChangedEvent;
+import com.teamhub.event.WorkspaceMembershipChangedEvent;
 import com.teamhub.exception.CustomException;
 import com.teamhub.repository.UserRepository;
 import com.teamhub.repository.WorkspaceMemberRepository;
@@ -16,6 +19,7 @@ import com.teamhub.repository.WorkspaceRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -29,8 +33,10 @@ public class WorkspaceService {
 
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceAccessService workspaceAccessService;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public WorkspaceResponse createWorkspace(Long userId, WorkspaceRequest req) {
@@ -63,53 +69,52 @@ public class WorkspaceService {
         List<Workspace> workspaces = workspaceRepository.findAllByUserId(userId);
 
         return workspaces.stream()
-                .map(workspace -> {
-                    WorkspaceMember member = workspaceMemberRepository
-                        .findByWorkspaceIdAndUserId(workspace.getId(), userId)
-                        .orElseThrow();
-                    return WorkspaceResponse.of(workspace, member.getRole());
-                })
+                .map(workspace -> WorkspaceResponse.of(workspace,
+                        workspaceAccessService.getRoleOrThrow(workspace.getId(), userId)))
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public WorkspaceResponse getWorkspace(Long userId, Long workspaceId) {
         Workspace workspace = findWorkspaceById(workspaceId);
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        return WorkspaceResponse.of(workspace, member.getRole());
+        return WorkspaceResponse.of(workspace, role);
     }
 
     @Transactional
     public WorkspaceResponse updateWorkspace(Long userId, Long workspaceId, WorkspaceRequest req) {
         Workspace workspace = findWorkspaceById(workspaceId);
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        if(!member.canManageProjects()) {
+        if(!role.canManageProjects()) {
             throw new CustomException(ErrorCode.WORKSPACE_DELETE_DENIED);
         }
         workspace.updateInfo(req.getName(), req.getDescription());
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
 
-        return WorkspaceResponse.of(workspace, member.getRole());
+        return WorkspaceResponse.of(workspace, role);
     }
 
     @Transactional
     public void deleteWorkspace(Long userId, Long workspaceId) {
         Workspace workspace = findWorkspaceById(workspaceId);
-        WorkspaceMember member = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
-        if(!member.isOwner()) {
+        if(!role.isOwner()) {
             throw new CustomException(ErrorCode.WORKSPACE_DELETE_DENIED);
         }
         workspace.delete();
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+        eventPublisher.publishEvent(SearchIndexEvent.workspaceDeleted(workspaceId));
         log.info("Workspace soft delete: {}", workspaceId);
     }
 
     @Transactional
     public MemberResponse inviteMember(Long userId, Long workspaceId, InviteMemberRequest req) {
-        WorkspaceMember inviter = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleUncached(workspaceId, userId);
 
-        if(!inviter.canManageMembers()) {
+        if(!role.canManageMembers()) {
             throw new CustomException(ErrorCode.MEMBER_INVITE_DENIED);
         }
 
@@ -134,6 +139,8 @@ public class WorkspaceService {
                 .build();
 
         workspaceMemberRepository.save(newMember);
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+        eventPublisher.publishEvent(new WorkspaceMembershipChangedEvent(workspaceId, invitee.getId()));
 
         //초대 알림 발송
         notificationService.sendMemberInvitedNotification(invitee, inviterUser, workspace.getName(), workspaceId);
@@ -145,7 +152,7 @@ public class WorkspaceService {
 
     @Transactional(readOnly = true)
     public List<MemberResponse> getMembers(Long userId, Long workspaceId) {
-        findMemberOrThrow(workspaceId, userId);
+        workspaceAccessService.getRoleOrThrow(workspaceId, userId);
 
         return workspaceMemberRepository.findAllByWorkspaceId(workspaceId)
                 .stream()
@@ -155,20 +162,23 @@ public class WorkspaceService {
 
     @Transactional
     public void removeMember(Long userId, Long workspaceId, Long memberId) {
-        WorkspaceMember req = findMemberOrThrow(workspaceId, userId);
+        WorkspaceRole role = workspaceAccessService.getRoleUncached(workspaceId, userId);
 
-        if(!req.canManageMembers()) {
+        if(!role.canManageMembers()) {
             throw new CustomException(ErrorCode.MEMBER_REMOVE_DENIED);
         }
 
         WorkspaceMember targetMember = workspaceMemberRepository.findById(memberId)
+                .filter(m -> m.getWorkspace().getId().equals(workspaceId))
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        if(!targetMember.isOwner()) {
+        if(targetMember.isOwner()) {
             throw new CustomException(ErrorCode.CANNOT_REMOVE_OWNER);
         }
 
         workspaceMemberRepository.delete(targetMember);
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+        eventPublisher.publishEvent(new WorkspaceMembershipChangedEvent(workspaceId, targetMember.getUser().getId()));
         log.info("Member removed: {} from workspace: {}", memberId, workspaceId);
     }
 
@@ -182,10 +192,4 @@ public class WorkspaceService {
         return workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_NOT_FOUND));
     }
-
-    private WorkspaceMember findMemberOrThrow(Long workspaceId, Long userId) {
-        return workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_ACCESS_DENIED));
-    }
-
 }
@@ -0,0 +1,107 @@
+package com.teamhub.domain.project;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankKeyTest {
+
+    @Test
+    void betweenNothingReturnsMiddleKey() {
+        String key = RankKey.between(null, null);
+
+        assertThat(key).isNotEmpty();
+        assertThat(key).doesNotEndWith("0");
+    }
+
+    @Test
+    void betweenAdjacentDigitsAddsDigit() {
+        String key = RankKey.between("a", "b");
+
+        assertBetween("a", key, "b");
+        assertThat(key).startsWith("a").hasSize(2);
+    }
+
+    @Test
+    void betweenKeyAndItsExtensionStaysBelowUpper() {
+        String key = RankKey.between("a", "a1");
+
+        assertBetween("a", key, "a1");
+        assertThat(key).doesNotEndWith("0");
+    }
+
+    @Test
+    void beforeSmallestKeyAndAfterLargestKey() {
+        assertBetween(null, RankKey.between(null, "1"), "1");
+        assertBetween(null, RankKey.between(null, "01"), "01");
+        assertBetween("z", RankKey.between("z", null), null);
+        assertBetween("zz", RankKey.between("zz", null), null);
+    }
+
+    @Test
+    void rejectsLowerNotLessThanUpper() {
+        assertThatThrownBy(() -> RankKey.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKey.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void repeatedInsertsKeepOrderAndNeverEndInZero() {
+        // 같은 자리에 반복 삽입 (앞쪽 / 뒤쪽 / 임의 위치)
+        List<String> keys = new ArrayList<>(List.of(RankKey.between(null, null)));
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int index = switch (i % 3) {
+                case 0 -> 0;
+                case 1 -> keys.size();
+                default -> random.nextInt(keys.size() + 1);
+            };
+            String lower = index > 0 ? keys.get(index - 1) : null;
+            String upper = index < keys.size() ? keys.get(index) : null;
+            String key = RankKey.between(lower, upper);
+
+            assertBetween(lower, key, upper);
+            keys.add(index, key);
+        }
+
+        assertThat(keys).isSorted();
+        assertThat(new HashSet<>(keys)).hasSize(keys.size());
+        assertThat(keys).noneMatch(key -> key.endsWith("0"));
+    }
+
+    @Test
+    void evenlySpacedKeysAreSortedDistinctAndSameLength() {
+        for (int count : new int[]{0, 1, 2, 61, 62, 1000, 5000}) {
+            List<String> keys = RankKey.evenlySpaced(count);
+
+            assertThat(keys).hasSize(count).isSorted();
+            assertThat(new HashSet<>(keys)).hasSize(count);
+            assertThat(keys).noneMatch(key -> key.endsWith("0"));
+            assertThat(keys.stream().map(String::length).distinct()).hasSizeLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void evenlySpacedKeysLeaveRoomAtBothEnds() {
+        List<String> keys = RankKey.evenlySpaced(100);
+
+        assertBetween(null, RankKey.between(null, keys.get(0)), keys.get(0));
+        assertBetween(keys.get(99), RankKey.between(keys.get(99), null), null);
+        assertThat(RankKey.between(keys.get(10), keys.get(11))).hasSize(keys.get(10).length());
+    }
+
+    private void assertBetween(String lower, String key, String upper) {
+        if (lower != null) {
+            assertThat(key).isGreaterThan(lower);
+        }
+        if (upper != null) {
+            assertThat(key).isLessThan(upper);
+        }
+        assertThat(key).doesNotEndWith("0");
+    }
+}
@@ -0,0 +1,268 @@
+package com.teamhub.service;
+
+import com.teamhub.config.ActivityLogWriterProperties;
+import com.teamhub.enums.activity.ActivityLogOverflowPolicy;
+import com.teamhub.enums.activity.ActivityType;
+import com.teamhub.enums.activity.TargetType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActivityLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ActivityLogWriterProperties properties = new ActivityLogWriterProperties();
+
+    // batchUpdate 호출별 행 수 (호출 스레드 이름 포함)
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> batchThreads = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        properties.setQueueCapacity(1000);
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMillis(20));
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        properties.setRetryBackoff(Duration.ofMillis(1));
+        properties.setMaxRetries(2);
+    }
+
+    @Test
+    void writesQueuedLogsInBatchesOfAtMostBatchSize() throws Exception {
+        recordBatches();
+        ActivityLogWriter writer = startedWriter();
+
+        for (int i = 0; i < 10; i++) {
+            writer.write(entry(i));
+        }
+        writer.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(batchSizes).allMatch(size -> size <= 3);
+        assertThat(failed()).isZero();
+    }
+
+    @Test
+    void writeAllHandsOffToFlusher() throws Exception {
+        recordBatches();
+        ActivityLogWriter writer = startedWriter();
+
+        List<ActivityLogWriter.PendingActivityLog> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(entry(i));
+        }
+        writer.writeAll(entries);
+        writer.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(batchSizes).allMatch(size -> size <= 3);
+        assertThat(batchThreads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void writeAllAppliesOverflowPolicyToWhatDoesNotFit() throws Exception {
+        properties.setQueueCapacity(2);
+        properties.setOverflowPolicy(ActivityLogOverflowPolicy.DROP);
+        CountDownLatch release = blockFlusher();
+        ActivityLogWriter writer = startedWriter();
+
+        writer.write(entry(0));
+        awaitBatches(1);
+        writer.writeAll(List.of(entry(1), entry(2), entry(3), entry(4), entry(5)));
+
+        assertThat(meterRegistry.counter("activity.log.dropped").count()).isEqualTo(3.0);
+
+        release.countDown();
+        writer.shutdown();
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+    }
+
+    @Test
+    void noLogIsLostWhenWritersRaceWithShutdown() throws Exception {
+        recordBatches();
+        ActivityLogWriter writer = startedWriter();
+
+        int threads = 4;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < perThread; i++) {
+                    writer.write(entry(i));
+                }
+            });
+        }
+        started.await();
+        writer.shutdown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(threads * perThread);
+    }
+
+    @Test
+    void dropPolicyDiscardsWhenQueueIsFull() throws Exception {
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(ActivityLogOverflowPolicy.DROP);
+        CountDownLatch release = blockFlusher();
+        ActivityLogWriter writer = startedWriter();
+
+        writer.write(entry(1));      // 플러셔가 꺼내서 INSERT 에서 대기
+        awaitBatches(1);
+        writer.write(entry(2));      // 큐 (용량 1)
+        writer.write(entry(3));      // 가득 참 -> 버림
+
+        assertThat(meterRegistry.counter("activity.log.dropped").count()).isEqualTo(1.0);
+
+        release.countDown();
+        writer.shutdown();
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void callerRunsPolicyWritesOnCallingThreadWhenQueueIsFull() throws Exception {
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(ActivityLogOverflowPolicy.CALLER_RUNS);
+        CountDownLatch release = blockFlusher();
+        ActivityLogWriter writer = startedWriter();
+
+        writer.write(entry(1));
+        awaitBatches(1);
+        writer.write(entry(2));
+        writer.write(entry(3));      // 가득 참 -> 호출 스레드에서 기록
+
+        assertThat(batchThreads).contains(Thread.currentThread().getName());
+        assertThat(meterRegistry.counter("activity.log.dropped").count()).isZero();
+
+        release.countDown();
+        writer.shutdown();
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+    }
+
+    @Test
+    void retriesFailedBatchBeforeGivingUp() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        when(jdbcTemplate.batchUpdate(anyString(),
+                ArgumentMatchers.<List<ActivityLogWriter.PendingActivityLog>>any(),
+                anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<ActivityLogWriter.PendingActivityLog>>any()))
+                .thenAnswer(invocation -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new DataAccessResourceFailureException("connection reset");
+                    }
+                    List<?> batch = invocation.getArgument(1);
+                    batchSizes.add(batch.size());
+                    return new int[][]{};
+                });
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, eventPublisher, properties, meterRegistry);
+
+        // 시작 전에는 호출 스레드에서 바로 기록
+        writer.write(entry(1));
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(failed()).isZero();
+    }
+
+    @Test
+    void countsBatchAsFailedAfterRetriesAreExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(jdbcTemplate.batchUpdate(anyString(),
+                ArgumentMatchers.<List<ActivityLogWriter.PendingActivityLog>>any(),
+                anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<ActivityLogWriter.PendingActivityLog>>any()))
+                .thenAnswer(invocation -> {
+                    attempts.incrementAndGet();
+                    throw new DataAccessResourceFailureException("connection reset");
+                });
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, eventPublisher, properties, meterRegistry);
+
+        writer.write(entry(1));
+
+        assertThat(attempts.get()).isEqualTo(1 + properties.getMaxRetries());
+        assertThat(failed()).isEqualTo(1.0);
+    }
+
+    // helper methods
+    private ActivityLogWriter startedWriter() {
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, eventPublisher, properties, meterRegistry);
+        writer.start();
+        return writer;
+    }
+
+    private void recordBatches() {
+        when(jdbcTemplate.batchUpdate(anyString(),
+                ArgumentMatchers.<List<ActivityLogWriter.PendingActivityLog>>any(),
+                anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<ActivityLogWriter.PendingActivityLog>>any()))
+                .thenAnswer(invocation -> {
+                    List<?> batch = invocation.getArgument(1);
+                    batchSizes.add(batch.size());
+                    batchThreads.add(Thread.currentThread().getName());
+                    return new int[][]{};
+                });
+    }
+
+    // 플러셔 스레드의 INSERT 만 release 될 때까지 막는다
+    private CountDownLatch blockFlusher() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(),
+                ArgumentMatchers.<List<ActivityLogWriter.PendingActivityLog>>any(),
+                anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<ActivityLogWriter.PendingActivityLog>>any()))
+                .thenAnswer(invocation -> {
+                    List<?> batch = invocation.getArgument(1);
+                    batchSizes.add(batch.size());
+                    batchThreads.add(Thread.currentThread().getName());
+                    if (Thread.currentThread().getName().equals("activity-log-writer")) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    return new int[][]{};
+                });
+        return release;
+    }
+
+    private void awaitBatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batchSizes.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(batchSizes).hasSizeGreaterThanOrEqualTo(count);
+    }
+
+    private double failed() {
+        return meterRegistry.counter("activity.log.failed").count();
+    }
+
+    private ActivityLogWriter.PendingActivityLog entry(long targetId) {
+        return new ActivityLogWriter.PendingActivityLog(ActivityType.TASK_UPDATED, 1L, 1L,
+                TargetType.TASK, targetId, "task-" + targetId, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,185 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.project.Task;
+import com.teamhub.domain.user.User;
+import com.teamhub.domain.workspace.Workspace;
+import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.dto.response.WorkspaceDashboardResponse;
+import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.enums.user.AuthProvider;
+import com.teamhub.enums.user.UserRole;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 백그라운드 재색인 쿼리가 문장 수 통계에 섞이지 않도록
+        "search.index.reindex-on-empty=false"
+})
+class DashboardServiceTest {
+
+    // 멤버 확인, 상태별 카운터, 프로젝트별 진행률, 멤버 목록, 담당자별 집계, 최근 활동, 마감 임박 태스크
+    private static final long STATEMENTS_PER_DASHBOARD = 7;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private User owner;
+    private User member;
+    private Workspace workspace;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("owner@teamhub.test", "owner");
+        member = persistUser("member@teamhub.test", "member");
+
+        workspace = Workspace.builder()
+                .name("dashboard")
+                .owner(owner)
+                .build();
+        em.persist(workspace);
+
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(owner).role(WorkspaceRole.OWNER).build());
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(member).role(WorkspaceRole.MEMBER).build());
+    }
+
+    @Test
+    void dashboardRunsFixedNumberOfStatements() {
+        Project first = persistProject("first");
+        persistTask(first, member, TaskStatus.TODO);
+        persistTask(first, member, TaskStatus.DONE);
+        persistTask(first, null, TaskStatus.IN_PROGRESS);
+
+        Project second = persistProject("second");
+        persistTask(second, owner, TaskStatus.REVIEW);
+        persistTask(second, member, TaskStatus.DONE);
+
+        WorkspaceDashboardResponse res = loadDashboardCountingStatements(STATEMENTS_PER_DASHBOARD);
+
+        assertThat(res.getTaskSummary().getTotal()).isEqualTo(5L);
+        assertThat(res.getTaskSummary().getTodo()).isEqualTo(1L);
+        assertThat(res.getTaskSummary().getInProgress()).isEqualTo(1L);
+        assertThat(res.getTaskSummary().getReview()).isEqualTo(1L);
+        assertThat(res.getTaskSummary().getDone()).isEqualTo(2L);
+
+        WorkspaceDashboardResponse.MemberTaskSummary memberSummary = res.getMemberTaskSummaries().stream()
+                .filter(s -> s.getUserId().equals(member.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(memberSummary.getAssignedTasks()).isEqualTo(3L);
+        assertThat(memberSummary.getCompletedTasks()).isEqualTo(2L);
+
+        WorkspaceDashboardResponse.ProjectProgress firstProgress = res.getProjectProgresses().stream()
+                .filter(p -> p.getProjectId().equals(first.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(firstProgress.getTotalTasks()).isEqualTo(3L);
+        assertThat(firstProgress.getCompletedTasks()).isEqualTo(1L);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithProjects() {
+        for (int i = 0; i < 80; i++) {
+            Project project = persistProject("project-" + i);
+            persistTask(project, member, TaskStatus.TODO);
+            persistTask(project, owner, TaskStatus.DONE);
+        }
+
+        WorkspaceDashboardResponse res = loadDashboardCountingStatements(STATEMENTS_PER_DASHBOARD);
+
+        assertThat(res.getProjectProgresses()).hasSize(80);
+        assertThat(res.getTaskSummary().getTotal()).isEqualTo(160L);
+    }
+
+    @Test
+    void projectProgressIncludesProjectsWithoutTasks() {
+        Project empty = persistProject("empty");
+        Project busy = persistProject("busy");
+        persistTask(busy, member, TaskStatus.DONE);
+        persistTask(busy, member, TaskStatus.TODO);
+        persistTask(busy, owner, TaskStatus.DONE);
+        persistTask(busy, null, TaskStatus.REVIEW);
+
+        WorkspaceDashboardResponse res = loadDashboardCountingStatements(STATEMENTS_PER_DASHBOARD);
+
+        assertThat(res.getProjectProgresses())
+                .extracting(WorkspaceDashboardResponse.ProjectProgress::getProjectId,
+                        WorkspaceDashboardResponse.ProjectProgress::getTotalTasks,
+                        WorkspaceDashboardResponse.ProjectProgress::getCompletedTasks,
+                        WorkspaceDashboardResponse.ProjectProgress::getProgressRate)
+                .containsExactly(
+                        tuple(empty.getId(), 0L, 0L, 0.0),
+                        tuple(busy.getId(), 4L, 2L, 50.0));
+    }
+
+    // helper methods
+    private WorkspaceDashboardResponse loadDashboardCountingStatements(long expectedStatements) {
+        // 테스트 데이터는 TaskService 를 거치지 않으므로 카운터를 재집계
+        em.flush();
+        taskStatsService.reconcile();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        WorkspaceDashboardResponse res = dashboardService.getWorkspaceDashboard(owner.getId(), workspace.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+        return res;
+    }
+
+    private User persistUser(String email, String name) {
+        User user = User.builder()
+                .email(email)
+                .name(name)
+                .role(UserRole.USER)
+                .provider(AuthProvider.LOCAL)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private Project persistProject(String name) {
+        Project project = Project.builder()
+                .name(name)
+                .workspace(workspace)
+                .build();
+        em.persist(project);
+        return project;
+    }
+
+    private void persistTask(Project project, User assignee, TaskStatus status) {
+        em.persist(Task.builder()
+                .title(project.getName() + "-task")
+                .project(project)
+                .assignee(assignee)
+                .createdBy(owner)
+                .status(status)
+                .build());
+    }
+}
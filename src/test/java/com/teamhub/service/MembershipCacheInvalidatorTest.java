@@ -0,0 +1,51 @@
+package com.teamhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.event.WorkspaceMembershipChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 다른 인스턴스가 남긴 무효화 행은 커밋된 상태로 보여야 하므로 @Transactional 없이 실행하고 직접 정리
+@SpringBootTest
+@TestPropertySource(properties = "search.index.reindex-on-empty=false")
+class MembershipCacheInvalidatorTest {
+
+    private static final long WORKSPACE_ID = -1L;
+
+    @Autowired
+    private MembershipCacheInvalidator membershipCacheInvalidator;
+
+    @Autowired
+    private Cache<WorkspaceAccessService.MembershipKey, WorkspaceRole> workspaceMembershipCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM " + MembershipCacheInvalidator.TABLE_NAME + " WHERE workspace_id = ?", WORKSPACE_ID);
+        workspaceMembershipCache.invalidateAll();
+    }
+
+    @Test
+    void pollEvictsMembershipsChangedOnAnyInstance() {
+        WorkspaceAccessService.MembershipKey changed = new WorkspaceAccessService.MembershipKey(WORKSPACE_ID, 1L);
+        WorkspaceAccessService.MembershipKey untouched = new WorkspaceAccessService.MembershipKey(WORKSPACE_ID, 2L);
+        workspaceMembershipCache.put(changed, WorkspaceRole.ADMIN);
+        workspaceMembershipCache.put(untouched, WorkspaceRole.MEMBER);
+
+        // 다른 인스턴스의 멤버 제거 트랜잭션이 남긴 행
+        membershipCacheInvalidator.onMembershipChanged(new WorkspaceMembershipChangedEvent(WORKSPACE_ID, 1L));
+        membershipCacheInvalidator.poll();
+
+        assertThat(workspaceMembershipCache.getIfPresent(changed)).isNull();
+        assertThat(workspaceMembershipCache.getIfPresent(untouched)).isEqualTo(WorkspaceRole.MEMBER);
+    }
+}
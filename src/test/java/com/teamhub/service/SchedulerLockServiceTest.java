@@ -0,0 +1,93 @@
+package com.teamhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 잠금은 자동 커밋 JDBC 로 동작하므로 @Transactional 없이 실행하고 직접 정리
+@SpringBootTest
+@TestPropertySource(properties = "search.index.reindex-on-empty=false")
+class SchedulerLockServiceTest {
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String lockName = "test-" + UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM " + SchedulerLockService.TABLE_NAME + " WHERE name = ?", lockName);
+    }
+
+    @Test
+    void secondRunIsSkippedWhileLeaseIsHeld() {
+        AtomicBoolean nestedRan = new AtomicBoolean();
+        AtomicBoolean nestedResult = new AtomicBoolean(true);
+
+        boolean ran = schedulerLockService.runExclusively(lockName, Duration.ZERO, () ->
+                nestedResult.set(schedulerLockService.runExclusively(lockName, Duration.ZERO, () -> nestedRan.set(true))));
+
+        assertThat(ran).isTrue();
+        assertThat(nestedResult.get()).isFalse();
+        assertThat(nestedRan.get()).isFalse();
+    }
+
+    @Test
+    void runsAgainOnceReleasedWithoutMinimumHold() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isTrue();
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    void lockAtLeastForKeepsLockUntilItExpires() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ofHours(1), runs::incrementAndGet)).isTrue();
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isFalse();
+
+        expireLock();
+
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    void leaseHeldByAnotherNodeIsTakenOverAfterExpiry() {
+        // 다른 노드가 실행 중 (LEASE 유효)
+        jdbcTemplate.update("INSERT INTO " + SchedulerLockService.TABLE_NAME + " (name, locked_until, locked_at, locked_by) " +
+                "VALUES (?, NOW(3) + INTERVAL 2 MINUTE, NOW(3), 'other-node')", lockName);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isFalse();
+
+        // 그 노드가 죽어 연장되지 않은 채 LEASE 가 지남
+        expireLock();
+
+        assertThat(schedulerLockService.runExclusively(lockName, Duration.ZERO, runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT locked_by FROM " + SchedulerLockService.TABLE_NAME + " WHERE name = ?",
+                String.class, lockName)).isNotEqualTo("other-node");
+    }
+
+    // helper methods
+    private void expireLock() {
+        jdbcTemplate.update("UPDATE " + SchedulerLockService.TABLE_NAME + " SET locked_until = NOW(3) - INTERVAL 1 SECOND " +
+                "WHERE name = ?", lockName);
+    }
+}
@@ -0,0 +1,108 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.user.User;
+import com.teamhub.domain.workspace.Workspace;
+import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.dto.request.TaskRequest;
+import com.teamhub.dto.request.TaskSearchRequest;
+import com.teamhub.dto.response.SearchResultResponse;
+import com.teamhub.enums.search.SearchDocumentType;
+import com.teamhub.enums.user.AuthProvider;
+import com.teamhub.enums.user.UserRole;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.search.SearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "search.index.reindex-on-empty=false")
+class SearchReindexServiceTest {
+
+    private static final String KEYWORD = "reindexprobe";
+
+    @Autowired
+    private SearchReindexService searchReindexService;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager em;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .email("reindex-owner@teamhub.test")
+                .name("owner")
+                .role(UserRole.USER)
+                .provider(AuthProvider.LOCAL)
+                .build();
+        em.persist(owner);
+    }
+
+    @Test
+    void reindexSkipsProjectsAndTasksOfDeletedWorkspace() throws Exception {
+        Workspace deleted = persistWorkspaceWithTask("deleted");
+        Workspace live = persistWorkspaceWithTask("live");
+
+        workspaceService.deleteWorkspace(owner.getId(), deleted.getId());
+        em.flush();
+
+        // 테스트 트랜잭션 안에서 실행해 커밋 전 데이터를 그대로 읽음
+        searchReindexService.reindexAll();
+
+        assertThat(searchIndex.search(deleted.getId(), KEYWORD, null, 10)).isEmpty();
+        assertThat(searchIndex.searchTasks(deleted.getId(), keywordRequest(), 0, 10).taskIds()).isEmpty();
+
+        assertThat(searchIndex.search(live.getId(), KEYWORD, null, 10))
+                .extracting(SearchResultResponse::getType)
+                .containsExactlyInAnyOrder(SearchDocumentType.PROJECT, SearchDocumentType.TASK);
+        assertThat(searchIndex.searchTasks(live.getId(), keywordRequest(), 0, 10).taskIds()).hasSize(1);
+    }
+
+    // helper methods
+    private Workspace persistWorkspaceWithTask(String name) {
+        Workspace workspace = Workspace.builder()
+                .name(name)
+                .owner(owner)
+                .build();
+        em.persist(workspace);
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(owner).role(WorkspaceRole.OWNER).build());
+
+        Project project = Project.builder()
+                .name(KEYWORD + " " + name)
+                .workspace(workspace)
+                .build();
+        em.persist(project);
+        em.flush();
+
+        TaskRequest request = new TaskRequest();
+        ReflectionTestUtils.setField(request, "title", KEYWORD + " task");
+        taskService.createTask(owner.getId(), project.getId(), request);
+        return workspace;
+    }
+
+    private TaskSearchRequest keywordRequest() {
+        TaskSearchRequest request = new TaskSearchRequest();
+        ReflectionTestUtils.setField(request, "keyword", KEYWORD);
+        return request;
+    }
+}
@@ -0,0 +1,223 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.notification.Notification;
+import com.teamhub.domain.project.Label;
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.project.Task;
+import com.teamhub.domain.project.TaskLabel;
+import com.teamhub.domain.user.User;
+import com.teamhub.domain.workspace.Workspace;
+import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.dto.request.TaskBulkUpdateRequest;
+import com.teamhub.dto.request.TaskRequest;
+import com.teamhub.dto.response.TaskResponse;
+import com.teamhub.enums.notification.NotificationType;
+import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.enums.user.AuthProvider;
+import com.teamhub.enums.user.UserRole;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.repository.NotificationRepository;
+import com.teamhub.repository.TaskLabelRepository;
+import com.teamhub.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "search.index.reindex-on-empty=false")
+class TaskBulkServiceTest {
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskLabelRepository taskLabelRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User owner;
+    private User member;
+    private User assignee;
+    private Workspace workspace;
+    private Project project;
+    private Label bug;
+    private Label feature;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("bulk-owner@teamhub.test", "owner");
+        member = persistUser("bulk-member@teamhub.test", "member");
+        assignee = persistUser("bulk-assignee@teamhub.test", "assignee");
+
+        workspace = Workspace.builder()
+                .name("bulk")
+                .owner(owner)
+                .build();
+        em.persist(workspace);
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(owner).role(WorkspaceRole.OWNER).build());
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(member).role(WorkspaceRole.MEMBER).build());
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(assignee).role(WorkspaceRole.MEMBER).build());
+
+        project = Project.builder()
+                .name("bulk-project")
+                .workspace(workspace)
+                .build();
+        em.persist(project);
+
+        bug = Label.builder().name("bug").color("#FF0000").workspace(workspace).build();
+        feature = Label.builder().name("feature").color("#00FF00").workspace(workspace).build();
+        em.persist(bug);
+        em.persist(feature);
+        em.flush();
+    }
+
+    @Test
+    void bulkStatusChangeMovesCountersByDelta() {
+        Long first = createTask("first");
+        Long second = createTask("second");
+        Long third = createTask("third");
+        taskService.changeTaskStatus(owner.getId(), first, TaskStatus.IN_PROGRESS);
+        taskService.changeTaskStatus(owner.getId(), second, TaskStatus.DONE);
+
+        List<TaskResponse> result = taskBulkService.bulkUpdate(owner.getId(), bulkRequest(List.of(first, second, third), TaskStatus.DONE));
+
+        assertThat(result).extracting(TaskResponse::getStatus).containsOnly(TaskStatus.DONE);
+        assertThat(workspaceCounts())
+                .containsEntry(TaskStatus.TODO, 0L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatus.DONE, 3L);
+
+        // 이미 같은 상태면 카운터도 그대로
+        taskBulkService.bulkUpdate(owner.getId(), bulkRequest(List.of(first, second, third), TaskStatus.DONE));
+        assertThat(workspaceCounts()).containsEntry(TaskStatus.DONE, 3L);
+
+        assertThat(taskStatsService.reconcile()).isZero();
+    }
+
+    @Test
+    void tasksStatusChangedSkipsTasksAlreadyInTargetStatus() {
+        Long first = createTask("first");
+        Long second = createTask("second");
+        taskService.changeTaskStatus(owner.getId(), second, TaskStatus.REVIEW);
+        em.flush();
+        em.clear();
+
+        List<Task> tasks = taskRepository.findAllForBulkByIdIn(Set.of(first, second));
+        taskStatsService.tasksStatusChanged(tasks, TaskStatus.REVIEW);
+
+        assertThat(workspaceCounts())
+                .containsEntry(TaskStatus.TODO, 0L)
+                .containsEntry(TaskStatus.REVIEW, 2L);
+    }
+
+    @Test
+    void bulkLabelChangeAddsAndRemovesWithoutDuplicates() {
+        Long first = createTask("first");
+        Long second = createTask("second");
+        Long untouched = createTask("untouched");
+        attachLabel(first, bug);
+        attachLabel(second, feature);
+        attachLabel(untouched, bug);
+
+        TaskBulkUpdateRequest req = bulkRequest(List.of(first, second), null);
+        ReflectionTestUtils.setField(req, "addLabelIds", List.of(feature.getId()));
+        ReflectionTestUtils.setField(req, "removeLabelIds", List.of(bug.getId()));
+        taskBulkService.bulkUpdate(owner.getId(), req);
+
+        assertThat(labelIds(first)).containsExactly(feature.getId());
+        assertThat(labelIds(second)).containsExactly(feature.getId());
+        assertThat(labelIds(untouched)).containsExactly(bug.getId());
+    }
+
+    @Test
+    void sendsOneNotificationPerRecipient() {
+        List<Long> taskIds = List.of(createTask("first"), createTask("second"), createTask("third"));
+
+        TaskBulkUpdateRequest req = bulkRequest(taskIds, TaskStatus.DONE);
+        ReflectionTestUtils.setField(req, "assigneeId", assignee.getId());
+        taskBulkService.bulkUpdate(member.getId(), req);
+
+        // 생성자 (상태 변경) 와 새 담당자에게 각각 하나, 변경한 본인에게는 없음
+        assertThat(bulkNotifications(owner)).hasSize(1);
+        assertThat(bulkNotifications(assignee)).hasSize(1)
+                .first().extracting(Notification::getMessage).asString().contains("3개");
+        assertThat(bulkNotifications(member)).isEmpty();
+    }
+
+    // helper methods
+    private User persistUser(String email, String name) {
+        User user = User.builder()
+                .email(email)
+                .name(name)
+                .role(UserRole.USER)
+                .provider(AuthProvider.LOCAL)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private Long createTask(String title) {
+        TaskRequest request = new TaskRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        return taskService.createTask(owner.getId(), project.getId(), request).getId();
+    }
+
+    private void attachLabel(Long taskId, Label label) {
+        em.persist(TaskLabel.builder().task(em.find(Task.class, taskId)).label(em.find(Label.class, label.getId())).build());
+        em.flush();
+    }
+
+    private TaskBulkUpdateRequest bulkRequest(List<Long> taskIds, TaskStatus status) {
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest();
+        ReflectionTestUtils.setField(request, "taskIds", taskIds);
+        ReflectionTestUtils.setField(request, "status", status);
+        return request;
+    }
+
+    private Set<Long> labelIds(Long taskId) {
+        em.flush();
+        em.clear();
+        return taskLabelRepository.findAllByTaskId(taskId).stream()
+                .map(taskLabel -> taskLabel.getLabel().getId())
+                .collect(Collectors.toSet());
+    }
+
+    private List<Notification> bulkNotifications(User user) {
+        return notificationRepository.findInboxFirstPage(user.getId(), PageRequest.of(0, 20)).stream()
+                .filter(notification -> notification.getType() == NotificationType.TASK_BULK_UPDATED)
+                .toList();
+    }
+
+    private Map<TaskStatus, Long> workspaceCounts() {
+        em.flush();
+        em.clear();
+        return taskStatsService.getWorkspaceCounts(workspace.getId());
+    }
+}
@@ -0,0 +1,139 @@
+package com.teamhub.service;
+
+import com.teamhub.domain.project.Project;
+import com.teamhub.domain.stats.ProjectTaskStats;
+import com.teamhub.domain.user.User;
+import com.teamhub.domain.workspace.Workspace;
+import com.teamhub.domain.workspace.WorkspaceMember;
+import com.teamhub.dto.request.TaskRequest;
+import com.teamhub.dto.response.TaskResponse;
+import com.teamhub.enums.project.TaskStatus;
+import com.teamhub.enums.user.AuthProvider;
+import com.teamhub.enums.user.UserRole;
+import com.teamhub.enums.workspace.WorkspaceRole;
+import com.teamhub.repository.ProjectTaskStatsRepository;
+import com.teamhub.repository.WorkspaceTaskStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "search.index.reindex-on-empty=false")
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private WorkspaceTaskStatsRepository workspaceTaskStatsRepository;
+
+    @Autowired
+    private ProjectTaskStatsRepository projectTaskStatsRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User owner;
+    private Workspace workspace;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .email("stats-owner@teamhub.test")
+                .name("owner")
+                .role(UserRole.USER)
+                .provider(AuthProvider.LOCAL)
+                .build();
+        em.persist(owner);
+
+        workspace = Workspace.builder()
+                .name("stats")
+                .owner(owner)
+                .build();
+        em.persist(workspace);
+        em.persist(WorkspaceMember.builder().workspace(workspace).user(owner).role(WorkspaceRole.OWNER).build());
+
+        project = Project.builder()
+                .name("stats-project")
+                .workspace(workspace)
+                .build();
+        em.persist(project);
+        em.flush();
+    }
+
+    @Test
+    void countersFollowCreateStatusChangeAndDelete() {
+        TaskResponse first = taskService.createTask(owner.getId(), project.getId(), taskRequest("first"));
+        taskService.createTask(owner.getId(), project.getId(), taskRequest("second"));
+
+        assertThat(workspaceCounts()).containsEntry(TaskStatus.TODO, 2L).containsEntry(TaskStatus.DONE, 0L);
+        assertThat(projectCounts()).containsEntry(TaskStatus.TODO, 2L);
+
+        taskService.changeTaskStatus(owner.getId(), first.getId(), TaskStatus.DONE);
+
+        assertThat(workspaceCounts()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DONE, 1L);
+        assertThat(projectCounts()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DONE, 1L);
+
+        taskService.deleteTask(owner.getId(), first.getId());
+
+        assertThat(workspaceCounts()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DONE, 0L);
+        assertThat(projectCounts()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DONE, 0L);
+
+        // 증분 갱신만으로 실제 값과 일치해야 함
+        em.flush();
+        assertThat(taskStatsService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileAppliesOnlyTheDifference() {
+        taskService.createTask(owner.getId(), project.getId(), taskRequest("first"));
+        // 증분 갱신 누락 / 중복으로 생긴 오차
+        workspaceTaskStatsRepository.increment(workspace.getId(), TaskStatus.TODO.name(), 3);
+        projectTaskStatsRepository.increment(project.getId(), workspace.getId(), TaskStatus.REVIEW.name(), -2);
+        em.flush();
+        em.clear();
+
+        assertThat(taskStatsService.reconcile()).isEqualTo(2);
+
+        assertThat(workspaceCounts()).containsEntry(TaskStatus.TODO, 1L);
+        assertThat(projectCounts()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.REVIEW, 0L);
+    }
+
+    // helper methods
+    private Map<TaskStatus, Long> workspaceCounts() {
+        em.flush();
+        em.clear();
+        return taskStatsService.getWorkspaceCounts(workspace.getId());
+    }
+
+    private Map<TaskStatus, Long> projectCounts() {
+        em.flush();
+        em.clear();
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (ProjectTaskStats stats : projectTaskStatsRepository.findAllByProjectId(project.getId())) {
+            counts.put(stats.getStatus(), stats.getTaskCount());
+        }
+        return counts;
+    }
+
+    private TaskRequest taskRequest(String title) {
+        TaskRequest request = new TaskRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        return request;
+    }
+}